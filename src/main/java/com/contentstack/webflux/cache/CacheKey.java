@@ -0,0 +1,29 @@
+package com.contentstack.webflux.cache;
+
+import com.contentstack.webflux.service.ContentstackEndpoint;
+
+/**
+ * Identifies a cached Contentstack response. The built request URI already encodes the
+ * environment, locale, variant and include set; the remaining components are kept so
+ * TTLs and invalidation can be resolved without parsing the URI.
+ * <p>
+ * Equality is by endpoint and URI only. Most URI templates ignore the variant, and a blank or
+ * missing variant expands to the same URI, so requests differing only in those share an entry.
+ */
+public record CacheKey(
+        ContentstackEndpoint endpoint,
+        String contentTypeUid,
+        String locale,
+        String variant,
+        String uri) {
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof CacheKey key && endpoint == key.endpoint && uri.equals(key.uri);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * endpoint.hashCode() + uri.hashCode();
+    }
+}
@@ -0,0 +1,44 @@
+package com.contentstack.webflux.cache;
+
+import java.time.Duration;
+
+/**
+ * A cached, already deserialized Contentstack payload together with its serialized size,
+ * which is used as the entry's weight for eviction, the time it was fetched and the
+ * {@code ETag} and {@code Last-Modified} validators the CDN sent with it, if any.
+ * <p>
+ * An invalidated response is never served as fresh or while revalidating, but is kept as
+ * last-known-good content in case the next fetch fails.
+ */
+public record CachedResponse(Object value, int sizeBytes, long fetchedAtNanos,
+                             String upstreamETag, String upstreamLastModified, boolean invalidated) {
+
+    public CachedResponse(Object value, int sizeBytes, long fetchedAtNanos) {
+        this(value, sizeBytes, fetchedAtNanos, null, null, false);
+    }
+
+    public Duration age() {
+        return Duration.ofNanos(System.nanoTime() - fetchedAtNanos);
+    }
+
+    public boolean isYoungerThan(Duration maxAge) {
+        return age().compareTo(maxAge) < 0;
+    }
+
+    public boolean hasValidators() {
+        return upstreamETag != null || upstreamLastModified != null;
+    }
+
+    public CachedResponse invalidate() {
+        return invalidated
+                ? this
+                : new CachedResponse(value, sizeBytes, fetchedAtNanos, upstreamETag, upstreamLastModified, true);
+    }
+
+    /**
+     * The same response, fetched now; used when the CDN confirms it has not changed.
+     */
+    public CachedResponse renew() {
+        return new CachedResponse(value, sizeBytes, System.nanoTime(), upstreamETag, upstreamLastModified, false);
+    }
+}
@@ -0,0 +1,172 @@
+package com.contentstack.webflux.cache;
+
+import com.contentstack.webflux.config.ContentstackConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Bounded in-memory cache for deserialized Contentstack responses.
+ * <p>
+ * Entries are retained for the longest freshness or staleness window configured for their
+ * content type (see {@link ContentstackConfig.Cache#retentionFor(String)}) and are evicted by
+ * total serialized payload size once {@code contentstack.cache.maximum-weight} is reached.
+ * Whether a retained entry is still fresh is decided by the caller from its age.
+ * Hit, miss and eviction counts are published as {@code cache.*} meters tagged
+ * {@code cache=contentstack.responses}.
+ */
+@Component
+public class ContentstackResponseCache {
+
+    public static final String CACHE_NAME = "contentstack.responses";
+
+    private static final Logger log = LoggerFactory.getLogger(ContentstackResponseCache.class);
+
+    private final ContentstackConfig.Cache properties;
+    private final ObjectMapper objectMapper;
+    private final ResponseBodies responseBodies;
+    private final Cache<CacheKey, CachedResponse> cache;
+
+    public ContentstackResponseCache(ContentstackConfig config, ObjectMapper objectMapper,
+                                     ResponseBodies responseBodies, MeterRegistry meterRegistry) {
+        this.properties = config.getCache();
+        this.objectMapper = objectMapper;
+        this.responseBodies = responseBodies;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumWeight())
+                .weigher((CacheKey key, CachedResponse response) -> response.sizeBytes())
+                .expireAfter(new ContentTypeExpiry(properties))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public ContentstackConfig.Cache getProperties() {
+        return properties;
+    }
+
+    /**
+     * Returns the cached response for the key, fresh or stale, or {@code null} on a miss.
+     */
+    public CachedResponse get(CacheKey key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(CacheKey key, Object value) {
+        put(key, value, null, null);
+    }
+
+    /**
+     * @param upstreamETag         the CDN's {@code ETag} for the response, or {@code null}
+     * @param upstreamLastModified the CDN's {@code Last-Modified} for the response, or {@code null}
+     */
+    public void put(CacheKey key, Object value, String upstreamETag, String upstreamLastModified) {
+        cache.put(key, new CachedResponse(value, weigh(value), System.nanoTime(),
+                upstreamETag, upstreamLastModified, false));
+    }
+
+    /**
+     * Puts a response fetched {@code age} ago, e.g. one loaded from a snapshot, unless the key
+     * already holds a response.
+     */
+    public void restore(CacheKey key, Object value, Duration age, String upstreamETag, String upstreamLastModified) {
+        cache.asMap().putIfAbsent(key, new CachedResponse(value, weigh(value), System.nanoTime() - age.toNanos(),
+                upstreamETag, upstreamLastModified, false));
+    }
+
+    /**
+     * Restarts the age of {@code previous}, keeping the deserialized value, provided the key
+     * still holds exactly that response and it was not replaced or invalidated meanwhile.
+     *
+     * @return whether the response was renewed
+     */
+    public boolean renew(CacheKey key, CachedResponse previous) {
+        CachedResponse renewed = previous.renew();
+        return cache.asMap().computeIfPresent(key, (k, current) -> current == previous ? renewed : current) == renewed;
+    }
+
+    /**
+     * A read-only view of the cached responses that does not count as cache hits.
+     */
+    public Map<CacheKey, CachedResponse> entries() {
+        return Collections.unmodifiableMap(cache.asMap());
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Marks every cached response whose key matches as invalidated, so the next request for it
+     * fetches from Contentstack while the old value stays available as last-known-good content.
+     *
+     * @return the keys that were invalidated
+     */
+    public List<CacheKey> invalidate(Predicate<CacheKey> matching) {
+        List<CacheKey> invalidated = new ArrayList<>();
+        for (CacheKey key : cache.asMap().keySet()) {
+            if (matching.test(key)
+                    && cache.asMap().computeIfPresent(key, (k, response) -> response.invalidate()) != null) {
+                invalidated.add(key);
+            }
+        }
+        return invalidated;
+    }
+
+    /**
+     * Serializes the value to use its size as the entry's weight, and lets {@link ResponseBodies}
+     * hash the same bytes so hits never serialize it again for an ETag.
+     */
+    private int weigh(Object value) {
+        try {
+            byte[] serialized = objectMapper.writeValueAsBytes(value);
+            responseBodies.register(value, serialized);
+            return serialized.length;
+        } catch (JsonProcessingException e) {
+            log.warn("Could not determine cached payload size: {}", e.getMessage());
+            return 1;
+        }
+    }
+
+    private static final class ContentTypeExpiry implements Expiry<CacheKey, CachedResponse> {
+
+        private final ContentstackConfig.Cache properties;
+
+        private ContentTypeExpiry(ContentstackConfig.Cache properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public long expireAfterCreate(CacheKey key, CachedResponse value, long currentTime) {
+            return properties.retentionFor(key.contentTypeUid()).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(CacheKey key, CachedResponse value, long currentTime, long currentDuration) {
+            return properties.retentionFor(key.contentTypeUid()).toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(CacheKey key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.contentstack.webflux.cache;
+
+import com.contentstack.webflux.config.ContentstackConfig;
+import com.contentstack.webflux.dto.ContentstackPageResponse;
+import com.contentstack.webflux.dto.FeatureFlags;
+import com.contentstack.webflux.dto.NavigationResponse;
+import com.contentstack.webflux.dto.PersonalizeConfigResponse;
+import com.contentstack.webflux.dto.WebConfigResponse;
+import com.contentstack.webflux.service.ContentstackEndpoint;
+import com.contentstack.webflux.service.ContentstackUriTemplates;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Persists cached responses of the configured endpoints to a gzip'd JSON file and loads them
+ * back into {@link ContentstackResponseCache} at startup.
+ * <p>
+ * Snapshots are written every {@code contentstack.snapshot.interval} and on shutdown, to a
+ * temporary file that is synced and then atomically moved over the previous snapshot, so a
+ * crash never leaves a partial file behind. At startup the file is memory-mapped and streamed
+ * into the cache before the web server accepts requests. Restored responses keep their original
+ * fetch time and CDN validators, so the usual TTL, stale-while-revalidate and stale-if-error
+ * rules apply to them and their first refresh can be a conditional request; responses fetched
+ * for a different base URL, environment or include set are skipped.
+ * <p>
+ * Snapshot age, size, entry count and load time are published as {@code contentstack.snapshot.*}
+ * meters.
+ */
+@Component
+public class ContentstackSnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentstackSnapshotStore.class);
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ContentstackConfig.Snapshot properties;
+    private final ContentstackResponseCache responseCache;
+    private final ContentstackUriTemplates uriTemplates;
+    private final ObjectMapper objectMapper;
+
+    private volatile long snapshotWrittenAtMillis = -1;
+    private volatile long snapshotSizeBytes;
+    private volatile int snapshotEntries;
+    private volatile long loadTimeNanos;
+    private Disposable schedule;
+
+    public ContentstackSnapshotStore(ContentstackConfig config,
+                                     ContentstackResponseCache responseCache,
+                                     ContentstackUriTemplates uriTemplates,
+                                     ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry) {
+        this.properties = config.getSnapshot();
+        this.responseCache = responseCache;
+        this.uriTemplates = uriTemplates;
+        this.objectMapper = objectMapper;
+
+        TimeGauge.builder("contentstack.snapshot.age", this,
+                        TimeUnit.MILLISECONDS, store -> store.snapshotWrittenAtMillis < 0
+                                ? Double.NaN
+                                : System.currentTimeMillis() - store.snapshotWrittenAtMillis)
+                .description("Age of the last snapshot written or loaded")
+                .register(meterRegistry);
+        Gauge.builder("contentstack.snapshot.size", this, store -> store.snapshotSizeBytes)
+                .description("Size of the last snapshot written or loaded")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("contentstack.snapshot.entries", this, store -> store.snapshotEntries)
+                .description("Responses in the last snapshot written or loaded")
+                .register(meterRegistry);
+        TimeGauge.builder("contentstack.snapshot.load.time", this,
+                        TimeUnit.NANOSECONDS, store -> store.loadTimeNanos)
+                .description("Time taken to load the snapshot at startup")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled() || !responseCache.isEnabled()) {
+            return;
+        }
+        load();
+        schedule = Flux.interval(properties.getInterval(), Schedulers.boundedElastic())
+                .subscribe(tick -> write());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (schedule != null) {
+            schedule.dispose();
+            write();
+        }
+    }
+
+    void load() {
+        Path path = properties.getPath();
+        long start = System.nanoTime();
+        int restored = 0;
+        int skipped = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            try (InputStream in = new GZIPInputStream(
+                    DefaultDataBufferFactory.sharedInstance.wrap(mapped).asInputStream(), BUFFER_SIZE);
+                 JsonParser parser = objectMapper.createParser(in)) {
+                long writtenAt = readHeader(parser);
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    if (restoreEntry(parser)) {
+                        restored++;
+                    } else {
+                        skipped++;
+                    }
+                }
+                snapshotWrittenAtMillis = writtenAt;
+                snapshotSizeBytes = size;
+                snapshotEntries = restored;
+            }
+            loadTimeNanos = System.nanoTime() - start;
+            log.info("Restored {} responses from snapshot {} in {} ms, skipped {}",
+                    restored, path, TimeUnit.NANOSECONDS.toMillis(loadTimeNanos), skipped);
+        } catch (NoSuchFileException e) {
+            log.info("No snapshot at {}, starting with an empty cache", path);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not load snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * Reads up to the start of the entries array and returns the time the snapshot was written.
+     */
+    private long readHeader(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Not a snapshot");
+        }
+        long writtenAt = -1;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "version" -> {
+                    if (parser.getIntValue() != FORMAT_VERSION) {
+                        throw new IOException("Unsupported snapshot version " + parser.getIntValue());
+                    }
+                }
+                case "writtenAt" -> writtenAt = parser.getLongValue();
+                case "entries" -> {
+                    return writtenAt;
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        throw new IOException("Snapshot has no entries");
+    }
+
+    /**
+     * Reads one entry; {@code value} is always written last, so its type is known by the time
+     * it is reached and it can be bound straight from the stream.
+     */
+    private boolean restoreEntry(JsonParser parser) throws IOException {
+        ContentstackEndpoint endpoint = null;
+        String contentTypeUid = null;
+        String locale = null;
+        String variant = null;
+        String uri = null;
+        long fetchedAt = 0;
+        String upstreamETag = null;
+        String upstreamLastModified = null;
+        Object value = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "endpoint" -> endpoint = ContentstackEndpoint.valueOf(parser.getText());
+                case "contentTypeUid" -> contentTypeUid = parser.getValueAsString();
+                case "locale" -> locale = parser.getValueAsString();
+                case "variant" -> variant = parser.getValueAsString();
+                case "uri" -> uri = parser.getValueAsString();
+                case "fetchedAt" -> fetchedAt = parser.getLongValue();
+                case "upstreamETag" -> upstreamETag = parser.getValueAsString();
+                case "upstreamLastModified" -> upstreamLastModified = parser.getValueAsString();
+                case "value" -> value = endpoint != null ? objectMapper.readValue(parser, valueType(endpoint)) : null;
+                default -> parser.skipChildren();
+            }
+        }
+        if (value == null || uri == null
+                || !uri.equals(uriTemplates.expand(endpoint, contentTypeUid, locale, variant))) {
+            return false;
+        }
+        Duration age = Duration.ofMillis(Math.max(0, System.currentTimeMillis() - fetchedAt));
+        responseCache.restore(new CacheKey(endpoint, contentTypeUid, locale, variant, uri), value, age,
+                upstreamETag, upstreamLastModified);
+        return true;
+    }
+
+    synchronized void write() {
+        Path path = properties.getPath();
+        long now = System.currentTimeMillis();
+        Path temp = null;
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            int written;
+            // Closing the gzip stream ends its Deflater, releasing native memory, and closes the channel
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+                 GZIPOutputStream out = new GZIPOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)) {
+                try (JsonGenerator generator = objectMapper.createGenerator(out)
+                        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                    written = writeEntries(generator, now);
+                }
+                out.finish();
+                channel.force(true);
+            }
+            if (written == 0) {
+                // Never replace a usable snapshot with an empty one, e.g. during a long CDN outage
+                Files.delete(temp);
+                return;
+            }
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            snapshotWrittenAtMillis = now;
+            snapshotSizeBytes = Files.size(path);
+            snapshotEntries = written;
+            log.debug("Wrote {} responses to snapshot {}", written, path);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write snapshot {}: {}", path, e.getMessage());
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // Left for the next successful write to be unaffected by
+                }
+            }
+        }
+    }
+
+    private int writeEntries(JsonGenerator generator, long now) throws IOException {
+        int written = 0;
+        generator.writeStartObject();
+        generator.writeNumberField("version", FORMAT_VERSION);
+        generator.writeNumberField("writtenAt", now);
+        generator.writeArrayFieldStart("entries");
+        for (Map.Entry<CacheKey, CachedResponse> entry : responseCache.entries().entrySet()) {
+            CacheKey key = entry.getKey();
+            CachedResponse response = entry.getValue();
+            if (!properties.getEndpoints().contains(key.endpoint()) || response.invalidated()) {
+                continue;
+            }
+            generator.writeStartObject();
+            generator.writeStringField("endpoint", key.endpoint().name());
+            generator.writeStringField("contentTypeUid", key.contentTypeUid());
+            generator.writeStringField("locale", key.locale());
+            generator.writeStringField("variant", key.variant());
+            generator.writeStringField("uri", key.uri());
+            generator.writeNumberField("fetchedAt", now - response.age().toMillis());
+            if (response.upstreamETag() != null) {
+                generator.writeStringField("upstreamETag", response.upstreamETag());
+            }
+            if (response.upstreamLastModified() != null) {
+                generator.writeStringField("upstreamLastModified", response.upstreamLastModified());
+            }
+            generator.writeFieldName("value");
+            objectMapper.writeValue(generator, response.value());
+            generator.writeEndObject();
+            written++;
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        return written;
+    }
+
+    /**
+     * The type {@code ContentstackClientService} caches for each endpoint.
+     */
+    private JavaType valueType(ContentstackEndpoint endpoint) {
+        return switch (endpoint) {
+            case WEB_CONFIG -> objectMapper.constructType(WebConfigResponse.Entry.class);
+            case FEATURE_FLAG_CONFIG -> objectMapper.constructType(FeatureFlags.class);
+            case NAVIGATION_CONFIG -> objectMapper.constructType(NavigationResponse.Entry.class);
+            case PERSONALIZED_CONFIG -> objectMapper.constructType(PersonalizeConfigResponse.Entry.class);
+            case ENTRIES -> objectMapper.constructType(ContentstackPageResponse.Entry.class);
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.contentstack.webflux.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight layer for upstream fetches: concurrent subscribers for the same key share
+ * one in-flight {@link Mono} instead of each issuing their own request. The shared fetch is
+ * removed once it completes, errors or is cancelled by all of its subscribers.
+ */
+@Component
+public class RequestCoalescer {
+
+    private final Map<CacheKey, Mono<?>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalescedRequests;
+
+    public RequestCoalescer(MeterRegistry meterRegistry) {
+        this.coalescedRequests = Counter.builder("contentstack.requests.coalesced")
+                .description("Requests served by joining an identical in-flight Contentstack fetch")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("contentstack.requests.inflight.keys", List.of(), inFlight);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(CacheKey key, Supplier<Mono<T>> fetch) {
+        return Mono.defer(() -> {
+            boolean[] leader = {false};
+            Mono<?> shared = inFlight.computeIfAbsent(key, k -> {
+                leader[0] = true;
+                return share(k, fetch.get());
+            });
+            if (!leader[0]) {
+                coalescedRequests.increment();
+            }
+            return (Mono<T>) shared;
+        });
+    }
+
+    private <T> Mono<T> share(CacheKey key, Mono<T> fetch) {
+        Mono<?>[] self = new Mono<?>[1];
+        Mono<T> shared = fetch
+                .doFinally(signal -> inFlight.remove(key, self[0]))
+                .share();
+        self[0] = shared;
+        return shared;
+    }
+}
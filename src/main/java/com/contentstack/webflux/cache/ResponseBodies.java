@@ -0,0 +1,176 @@
+package com.contentstack.webflux.cache;
+
+import com.contentstack.webflux.config.ContentstackConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Derived representations of response bodies that are expensive to produce per request: a
+ * strong ETag, from a CRC32C and the length of the JSON serialization, the serialized JSON
+ * itself and its gzip'd form.
+ * <p>
+ * All of them are held by identity of the body object, so a cached response is hashed and
+ * serialized once, when {@link ContentstackResponseCache} serializes it to weigh it, and
+ * compressed once, on the first request that accepts gzip. Every later hit only does an
+ * identity lookup and writes the bytes as they are. Only bodies registered by the response
+ * cache are kept this way; other bodies get an ETag but are serialized per request as usual.
+ * <p>
+ * ETags live as long as their body is reachable. The byte arrays are bounded in total by
+ * {@code contentstack.responses.bodies-maximum-weight}, keeping the most frequently served
+ * bodies, and are published as {@code cache.*} meters tagged {@code cache=contentstack.bodies}
+ * plus {@value #WEIGHT} for the bytes held.
+ */
+@Component
+public class ResponseBodies {
+
+    public static final String CACHE_NAME = "contentstack.bodies";
+    public static final String WEIGHT = "contentstack.bodies.weight";
+
+    private static final byte[] NOT_COMPRESSED = new byte[0];
+
+    private final ObjectMapper objectMapper;
+    private final ContentstackConfig.Responses properties;
+    private final Cache<Object, Tag> etags = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+    private final Cache<Object, Encoded> encoded;
+
+    public ResponseBodies(ObjectMapper objectMapper, ContentstackConfig config, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.properties = config.getResponses();
+        this.encoded = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumWeight(properties.getBodiesMaximumWeight())
+                .weigher((Object body, Encoded bytes) -> bytes.weight())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, encoded, CACHE_NAME);
+        Gauge.builder(WEIGHT, encoded, cache -> cache.policy().eviction()
+                        .flatMap(eviction -> eviction.weightedSize().stream().boxed().findFirst())
+                        .orElse(0L))
+                .description("Bytes held as serialized and compressed response bodies")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public String etagFor(Object body) {
+        return etags.get(body, value -> new Tag(etag(serialize(value)), false)).etag();
+    }
+
+    /**
+     * Returns a strong ETag for a part of {@code whole} identified by {@code selector}, derived
+     * from the ETag of {@code whole} so the part is neither serialized nor recorded. Parts with
+     * the same selector must be equal for equal wholes.
+     */
+    public String etagFor(Object whole, String selector) {
+        String etag = etagFor(whole);
+        CRC32C crc = new CRC32C();
+        crc.update(selector.getBytes(StandardCharsets.UTF_8));
+        return etag.substring(0, etag.length() - 1) + "-" + Long.toHexString(crc.getValue()) + "\"";
+    }
+
+    /**
+     * Returns the serialized JSON of {@code body}, or {@code null} when the body is not held by the
+     * response cache or {@code contentstack.responses.serialized-bodies} is disabled.
+     */
+    public byte[] serialized(Object body) {
+        if (!properties.isSerializedBodies() || !isRegistered(body)) {
+            return null;
+        }
+        Encoded bytes = encoded.getIfPresent(body);
+        if (bytes != null && bytes.json() != null) {
+            return bytes.json();
+        }
+        byte[] json = serialize(body);
+        encoded.asMap().merge(body, new Encoded(json, null), (existing, added) -> new Encoded(json, existing.gzip()));
+        return json;
+    }
+
+    /**
+     * Returns the gzip'd JSON of {@code body}, or {@code null} when the body is not held by the
+     * response cache or is smaller than {@code contentstack.responses.compression-min-size}.
+     */
+    public byte[] gzipped(Object body) {
+        if (!properties.isCompression() || !isRegistered(body)) {
+            return null;
+        }
+        Encoded bytes = encoded.getIfPresent(body);
+        if (bytes == null || bytes.gzip() == null) {
+            byte[] json = bytes != null && bytes.json() != null ? bytes.json() : serialize(body);
+            byte[] gzip = json.length < properties.getCompressionMinSize() ? NOT_COMPRESSED : gzip(json);
+            byte[] kept = properties.isSerializedBodies() ? json : null;
+            bytes = encoded.asMap().merge(body, new Encoded(kept, gzip),
+                    (existing, added) -> new Encoded(existing.json() != null ? existing.json() : kept, gzip));
+        }
+        return bytes.gzip() != NOT_COMPRESSED ? bytes.gzip() : null;
+    }
+
+    /**
+     * Records the ETag and, if enabled, the serialized JSON of {@code body} from its already
+     * serialized form.
+     */
+    void register(Object body, byte[] serialized) {
+        etags.put(body, new Tag(etag(serialized), true));
+        if (properties.isSerializedBodies()) {
+            encoded.put(body, new Encoded(serialized, null));
+        }
+    }
+
+    private boolean isRegistered(Object body) {
+        Tag tag = etags.getIfPresent(body);
+        return tag != null && tag.registered();
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String etag(byte[] serialized) {
+        CRC32C crc = new CRC32C();
+        crc.update(serialized);
+        return "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(serialized.length) + "\"";
+    }
+
+    private static byte[] gzip(byte[] serialized) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(serialized.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(serialized);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * The ETag of a body and whether the body was registered by the response cache.
+     */
+    private record Tag(String etag, boolean registered) {
+    }
+
+    /**
+     * Immutable once built; the arrays are shared by every response that writes them.
+     */
+    private record Encoded(byte[] json, byte[] gzip) {
+
+        int weight() {
+            return (json != null ? json.length : 0) + (gzip != null ? gzip.length : 0);
+        }
+    }
+}
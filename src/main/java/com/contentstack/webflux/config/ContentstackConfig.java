@@ -1,9 +1,20 @@
 package com.contentstack.webflux.config;
 
+import com.contentstack.webflux.service.ContentstackEndpoint;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Configuration
 @ConfigurationProperties(prefix = "contentstack")
 @Data
@@ -13,6 +24,18 @@ public class ContentstackConfig {
     private String environment;
     private String region;
     private Api api = new Api();
+    private Cache cache = new Cache();
+    private Http http = new Http();
+    private Webhook webhook = new Webhook();
+    private Warmup warmup = new Warmup();
+    private Snapshot snapshot = new Snapshot();
+    private Responses responses = new Responses();
+    private Bulkhead bulkhead = new Bulkhead();
+    private Retry retry = new Retry();
+    private Hedge hedge = new Hedge();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private RequestLog requestLog = new RequestLog();
+    private Metrics metrics = new Metrics();
 
     public Api getApi() {
         return api;
@@ -54,6 +77,102 @@ public class ContentstackConfig {
         this.api = api;
     }
 
+    public Cache getCache() {
+        return cache;
+    }
+
+    public void setCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    public Http getHttp() {
+        return http;
+    }
+
+    public void setHttp(Http http) {
+        this.http = http;
+    }
+
+    public Webhook getWebhook() {
+        return webhook;
+    }
+
+    public void setWebhook(Webhook webhook) {
+        this.webhook = webhook;
+    }
+
+    public Warmup getWarmup() {
+        return warmup;
+    }
+
+    public void setWarmup(Warmup warmup) {
+        this.warmup = warmup;
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public void setSnapshot(Snapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public Responses getResponses() {
+        return responses;
+    }
+
+    public void setResponses(Responses responses) {
+        this.responses = responses;
+    }
+
+    public Bulkhead getBulkhead() {
+        return bulkhead;
+    }
+
+    public void setBulkhead(Bulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    public Retry getRetry() {
+        return retry;
+    }
+
+    public void setRetry(Retry retry) {
+        this.retry = retry;
+    }
+
+    public Hedge getHedge() {
+        return hedge;
+    }
+
+    public void setHedge(Hedge hedge) {
+        this.hedge = hedge;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public RequestLog getRequestLog() {
+        return requestLog;
+    }
+
+    public void setRequestLog(RequestLog requestLog) {
+        this.requestLog = requestLog;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
     @Data
     public static class Api {
         private String baseUrl = "https://api.contentstack.io/v3";
@@ -66,5 +185,280 @@ public class ContentstackConfig {
             this.baseUrl = baseUrl;
         }
     }
-}
 
+    /**
+     * Connection pool and transport settings for the shared Contentstack {@code WebClient}.
+     */
+    @Data
+    public static class Http {
+        private int maxConnections = 500;
+
+        /** Requests allowed to wait for a pooled connection; -1 for unbounded. */
+        private int pendingAcquireMaxCount = 1000;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration evictInBackground = Duration.ofSeconds(30);
+
+        /** Negotiate HTTP/2 via ALPN on TLS connections, falling back to HTTP/1.1. */
+        private boolean http2 = true;
+        private boolean keepAlive = true;
+
+        /** Limit for buffering a response body before decoding, in bytes. */
+        private int maxInMemorySize = 16 * 1024 * 1024;
+
+        /** Ask the CDN for gzip'd bodies, decompressed transparently by the client. */
+        private boolean compression = true;
+
+        private Duration connectTimeout = Duration.ofSeconds(2);
+
+        /** Longest wait for the response, or between two reads of its body, once a request is sent. */
+        private Duration responseTimeout = Duration.ofSeconds(5);
+    }
+
+    /**
+     * In-process response cache settings. Entries are keyed on the fully built request URI
+     * and bounded by the total serialized size of the cached payloads.
+     * <p>
+     * An entry is fresh for {@code ttl}. For the endpoints in {@code staleEndpoints} it is then
+     * served stale while a background refresh runs until {@code hardTtl}, and served as
+     * last-known-good content when the refresh fails until {@code staleIfError}.
+     */
+    @Data
+    public static class Cache {
+        private boolean enabled = true;
+
+        /** Upper bound for the summed serialized size of all cached entries, in bytes. */
+        private long maximumWeight = 64L * 1024 * 1024;
+
+        /** Soft TTL applied to content types without an explicit entry in {@link #contentTypes}. */
+        private Duration ttl = Duration.ofSeconds(60);
+
+        /** Age until which an expired entry is served while it is revalidated in the background. */
+        private Duration hardTtl = Duration.ofMinutes(5);
+
+        /** Age until which an entry is served when the upstream fetch fails. */
+        private Duration staleIfError = Duration.ofHours(1);
+
+        /** Endpoints that may be served stale. Page entries are always fetched once expired. */
+        private Set<ContentstackEndpoint> staleEndpoints = EnumSet.of(
+                ContentstackEndpoint.WEB_CONFIG,
+                ContentstackEndpoint.NAVIGATION_CONFIG,
+                ContentstackEndpoint.FEATURE_FLAG_CONFIG,
+                ContentstackEndpoint.PERSONALIZED_CONFIG);
+
+        /** Per content type overrides, keyed by content type UID. */
+        private Map<String, ContentTypePolicy> contentTypes = new HashMap<>();
+
+        public Duration ttlFor(String contentTypeUid) {
+            ContentTypePolicy policy = contentTypes.get(contentTypeUid);
+            return policy != null && policy.getTtl() != null ? policy.getTtl() : ttl;
+        }
+
+        public Duration hardTtlFor(String contentTypeUid) {
+            ContentTypePolicy policy = contentTypes.get(contentTypeUid);
+            return policy != null && policy.getHardTtl() != null ? policy.getHardTtl() : hardTtl;
+        }
+
+        public Duration staleIfErrorFor(String contentTypeUid) {
+            ContentTypePolicy policy = contentTypes.get(contentTypeUid);
+            return policy != null && policy.getStaleIfError() != null ? policy.getStaleIfError() : staleIfError;
+        }
+
+        /**
+         * How long an entry is retained at all: the longest of its soft TTL, hard TTL and
+         * stale-if-error window.
+         */
+        public Duration retentionFor(String contentTypeUid) {
+            Duration retention = ttlFor(contentTypeUid);
+            Duration hard = hardTtlFor(contentTypeUid);
+            Duration onError = staleIfErrorFor(contentTypeUid);
+            if (hard.compareTo(retention) > 0) {
+                retention = hard;
+            }
+            if (onError.compareTo(retention) > 0) {
+                retention = onError;
+            }
+            return retention;
+        }
+    }
+
+    /**
+     * Publish webhooks from Contentstack. Requests must carry {@code secret}, either in
+     * {@code tokenHeader} or as the HTTP Basic auth password; without a secret every webhook is rejected.
+     */
+    @Data
+    public static class Webhook {
+        private String secret;
+        private String tokenHeader = "X-Contentstack-Webhook-Token";
+
+        /** Basic auth user name to require as well; any user name is accepted when unset. */
+        private String username;
+
+        /** Re-fetch invalidated responses right away so the next user request is a hit. */
+        private boolean prewarm = true;
+
+        /** Delay before re-fetching, giving the CDN time to purge the published entry. */
+        private Duration prewarmDelay = Duration.ofSeconds(2);
+        private int prewarmConcurrency = 4;
+    }
+
+    /**
+     * Responses fetched into the cache at startup. The readiness probe reports the application
+     * out of service until all of them are fetched or {@code timeout} has passed.
+     */
+    @Data
+    public static class Warmup {
+        private boolean enabled = true;
+        private int concurrency = 8;
+        private Duration timeout = Duration.ofSeconds(30);
+        private List<WarmupEntry> entries = new ArrayList<>();
+    }
+
+    @Data
+    public static class WarmupEntry {
+        private ContentstackEndpoint endpoint;
+        private String contentTypeUid;
+        private String locale;
+        private String variant;
+    }
+
+    /**
+     * Periodic on-disk snapshot of cached responses, loaded back into the cache at startup so a
+     * restarted instance can serve them before, or without, reaching Contentstack.
+     */
+    @Data
+    public static class Snapshot {
+        private boolean enabled = false;
+        private Path path = Path.of(System.getProperty("java.io.tmpdir"), "contentstack-snapshot.json.gz");
+        private Duration interval = Duration.ofMinutes(1);
+        private Set<ContentstackEndpoint> endpoints = EnumSet.of(
+                ContentstackEndpoint.WEB_CONFIG,
+                ContentstackEndpoint.NAVIGATION_CONFIG,
+                ContentstackEndpoint.FEATURE_FLAG_CONFIG);
+    }
+
+    /**
+     * HTTP caching headers on controller responses. Responses carry a strong {@code ETag} and are
+     * answered with 304 when it matches {@code If-None-Match}; {@code Cache-Control} is only sent
+     * for the endpoints listed in {@code cacheControl}. Their serialized and gzip'd forms are kept
+     * alongside them when {@code serializedBodies} and {@code compression} are enabled.
+     */
+    @Data
+    public static class Responses {
+        private boolean etag = true;
+        private Map<ContentstackEndpoint, String> cacheControl = new EnumMap<>(ContentstackEndpoint.class);
+
+        /** Tag responses with their content type and locale so an edge cache can purge them by key. */
+        private boolean surrogateKeys = true;
+        private String surrogateKeyHeader = "Surrogate-Key";
+
+        /** Serve cached responses gzip'd to clients that accept it, compressed once per response. */
+        private boolean compression = true;
+
+        /** Bodies smaller than this are always sent uncompressed, in bytes. */
+        private int compressionMinSize = 1024;
+
+        /** Keep the serialized JSON of cached responses and write it as is on a hit. */
+        private boolean serializedBodies = true;
+
+        /** Upper bound for serialized and compressed bodies kept in total, in bytes. */
+        private long bodiesMaximumWeight = 32L * 1024 * 1024;
+    }
+
+    /**
+     * Adaptive concurrency limit for upstream calls, applied separately to each endpoint. The
+     * limit moves between {@code minLimit} and {@code maxLimit}; calls beyond it are rejected with
+     * a 503 instead of queueing.
+     */
+    @Data
+    public static class Bulkhead {
+        private boolean enabled = true;
+        private int initialLimit = 20;
+        private int minLimit = 4;
+        private int maxLimit = 100;
+
+        /** Factor applied to the limit when a call fails with a 5xx, an I/O error or a timeout. */
+        private double backoffRatio = 0.9;
+
+        /** Calls slower than this reduce the limit like failures do. */
+        private Duration latencyThreshold = Duration.ofSeconds(2);
+    }
+
+    /**
+     * Retries of upstream calls that failed with a 5xx or 429, an I/O error or a timeout. The
+     * backoff doubles from {@code minBackoff} up to {@code maxBackoff}, randomized by
+     * {@code jitter}.
+     */
+    @Data
+    public static class Retry {
+        private boolean enabled = true;
+        private int maxRetries = 2;
+        private Duration minBackoff = Duration.ofMillis(100);
+        private Duration maxBackoff = Duration.ofSeconds(1);
+        private double jitter = 0.5;
+    }
+
+    /**
+     * Hedged upstream calls: a second request is sent once the first has taken longer than the
+     * {@code percentile} latency of the last {@code windowSize} successful calls of the endpoint.
+     */
+    @Data
+    public static class Hedge {
+        private boolean enabled = false;
+        private double percentile = 0.95;
+        private int windowSize = 256;
+
+        /** Calls needed before hedging starts. */
+        private int minSamples = 50;
+
+        /** Floor for the hedge delay, so a burst of cache-speed responses cannot double traffic. */
+        private Duration minDelay = Duration.ofMillis(20);
+    }
+
+    /**
+     * Circuit breakers per CDN host and per content type, over a sliding window of the last
+     * {@code windowSize} calls. Thresholds are percentages of the calls in the window.
+     */
+    @Data
+    public static class CircuitBreaker {
+        private boolean enabled = true;
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+        private int failureRateThreshold = 50;
+        private int slowCallRateThreshold = 80;
+        private Duration slowCallDuration = Duration.ofSeconds(2);
+        private Duration waitDurationInOpen = Duration.ofSeconds(10);
+        private int permittedCallsInHalfOpen = 3;
+
+        /** Content types tracked at once; the least recently used are forgotten beyond this. */
+        private int maxContentTypes = 1000;
+    }
+
+    /**
+     * One structured line per sampled request, written by the {@code contentstack.requests}
+     * logger. Requests carrying {@code debugHeader} are always logged.
+     */
+    @Data
+    public static class RequestLog {
+        private boolean enabled = true;
+        private double sampleRate = 0.01;
+        private String debugHeader = "X-Contentstack-Debug";
+    }
+
+    /**
+     * Distinct request-supplied values ({@code contentTypeUid}, {@code locale}) tagged on
+     * Contentstack meters; further values are tagged {@code other}.
+     */
+    @Data
+    public static class Metrics {
+        private int maxTagValues = 100;
+    }
+
+    @Data
+    public static class ContentTypePolicy {
+        private Duration ttl;
+        private Duration hardTtl;
+        private Duration staleIfError;
+    }
+}
@@ -0,0 +1,19 @@
+package com.contentstack.webflux.config;
+
+import com.contentstack.webflux.service.ContentstackMetrics;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Applied by Spring Boot to every meter registry, so the cap holds whichever registry a meter
+     * is published to.
+     */
+    @Bean
+    public MeterFilter contentstackTagValueLimit(ContentstackConfig config) {
+        return ContentstackMetrics.tagValueLimit(config.getMetrics().getMaxTagValues());
+    }
+}
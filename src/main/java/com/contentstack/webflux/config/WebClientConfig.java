@@ -1,15 +1,73 @@
 package com.contentstack.webflux.config;
 
+import io.netty.channel.ChannelOption;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.Objects;
 
 @Configuration
 public class WebClientConfig {
 
+    /**
+     * Dedicated connection pool for Contentstack. Pool gauges (active, idle, pending) are
+     * published as {@code reactor.netty.connection.provider.*} meters.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider contentstackConnectionProvider(ContentstackConfig config) {
+        ContentstackConfig.Http http = config.getHttp();
+        return ConnectionProvider.builder("contentstack")
+                .maxConnections(http.getMaxConnections())
+                .pendingAcquireMaxCount(http.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(http.getPendingAcquireTimeout())
+                .maxIdleTime(http.getMaxIdleTime())
+                .maxLifeTime(http.getMaxLifeTime())
+                .evictInBackground(http.getEvictInBackground())
+                .metrics(true)
+                .build();
+    }
+
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    public WebClient.Builder webClientBuilder(ContentstackConfig config, ConnectionProvider contentstackConnectionProvider) {
+        ContentstackConfig.Http http = config.getHttp();
+        HttpClient httpClient = HttpClient.create(contentstackConnectionProvider)
+                .keepAlive(http.isKeepAlive())
+                .option(ChannelOption.SO_KEEPALIVE, http.isKeepAlive())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) http.getConnectTimeout().toMillis())
+                .responseTimeout(http.getResponseTimeout())
+                // Sends Accept-Encoding: gzip and inflates the body before it reaches the decoders
+                .compress(http.isCompression());
+        if (http.isHttp2()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(http.getMaxInMemorySize()));
     }
-}
 
+    /**
+     * The Contentstack client, built once with the base URL and credentials applied.
+     */
+    @Bean
+    public WebClient contentstackWebClient(ContentstackConfig config, WebClient.Builder webClientBuilder) {
+        final String baseUrl = Objects.requireNonNullElse(
+                (config.getApi() != null ? config.getApi().getBaseUrl() : null),
+                "https://api.contentstack.io/v3");
+        final String apiKey = Objects.requireNonNullElse(config.getApiKey(), "");
+        final String deliveryToken = Objects.requireNonNullElse(config.getDeliveryToken(), "");
+
+        return webClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .defaultHeader("api_key", apiKey)
+                .defaultHeader("access_token", deliveryToken)
+                .build();
+    }
+}
@@ -1,6 +1,12 @@
 package com.contentstack.webflux.config;
 
+import com.contentstack.webflux.cache.ResponseBodies;
+import com.contentstack.webflux.controller.CachedBodyWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.lang.NonNull;
 import org.springframework.web.reactive.config.CorsRegistry;
 import org.springframework.web.reactive.config.WebFluxConfigurer;
@@ -8,6 +14,14 @@ import org.springframework.web.reactive.config.WebFluxConfigurer;
 @Configuration
 public class WebConfig implements WebFluxConfigurer {
 
+    private final ObjectMapper objectMapper;
+    private final ResponseBodies responseBodies;
+
+    public WebConfig(ObjectMapper objectMapper, ResponseBodies responseBodies) {
+        this.objectMapper = objectMapper;
+        this.responseBodies = responseBodies;
+    }
+
     @Override
     public void addCorsMappings(@NonNull CorsRegistry registry) {
         registry.addMapping("/**")
@@ -16,5 +30,13 @@ public class WebConfig implements WebFluxConfigurer {
                 .allowedHeaders("*")
                 .maxAge(3600);
     }
-}
 
+    /**
+     * Custom writers take precedence over the default Jackson writer for the same types.
+     */
+    @Override
+    public void configureHttpMessageCodecs(@NonNull ServerCodecConfigurer configurer) {
+        configurer.customCodecs().register(new CachedBodyWriter(
+                new EncoderHttpMessageWriter<>(new Jackson2JsonEncoder(objectMapper)), responseBodies));
+    }
+}
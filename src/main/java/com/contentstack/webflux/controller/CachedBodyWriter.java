@@ -0,0 +1,99 @@
+package com.contentstack.webflux.controller;
+
+import com.contentstack.webflux.cache.ResponseBodies;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.lang.Nullable;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON writer that sends the bytes kept by {@link ResponseBodies} as they are: the gzip'd body
+ * to clients that accept gzip, the serialized JSON to the others. A cache hit is then a single
+ * write of a shared buffer, with no object traversal, serialization or compression. Bodies
+ * without such bytes go through the regular Jackson writer. {@link HttpCacheHeaders} adds
+ * {@code Vary: Accept-Encoding} to both forms and gives the gzip'd form its own {@code ETag}.
+ */
+public class CachedBodyWriter implements HttpMessageWriter<Object> {
+
+    private static final String GZIP = "gzip";
+
+    private final HttpMessageWriter<Object> delegate;
+    private final ResponseBodies responseBodies;
+
+    public CachedBodyWriter(HttpMessageWriter<Object> delegate, ResponseBodies responseBodies) {
+        this.delegate = delegate;
+        this.responseBodies = responseBodies;
+    }
+
+    @Override
+    public List<MediaType> getWritableMediaTypes() {
+        return delegate.getWritableMediaTypes();
+    }
+
+    @Override
+    public List<MediaType> getWritableMediaTypes(ResolvableType elementType) {
+        return delegate.getWritableMediaTypes(elementType);
+    }
+
+    @Override
+    public boolean canWrite(ResolvableType elementType, @Nullable MediaType mediaType) {
+        return delegate.canWrite(elementType, mediaType);
+    }
+
+    @Override
+    public Mono<Void> write(Publisher<?> inputStream, ResolvableType elementType, @Nullable MediaType mediaType,
+                            ReactiveHttpOutputMessage message, Map<String, Object> hints) {
+        return delegate.write(inputStream, elementType, mediaType, message, hints);
+    }
+
+    @Override
+    public Mono<Void> write(Publisher<?> inputStream, ResolvableType actualType, ResolvableType elementType,
+                            @Nullable MediaType mediaType, ServerHttpRequest request, ServerHttpResponse response,
+                            Map<String, Object> hints) {
+        if (Flux.class.isAssignableFrom(actualType.toClass())) {
+            return delegate.write(inputStream, actualType, elementType, mediaType, request, response, hints);
+        }
+        boolean acceptsGzip = acceptsGzip(request);
+        return Mono.from(inputStream).flatMap(body -> {
+            byte[] gzipped = acceptsGzip ? responseBodies.gzipped(body) : null;
+            byte[] bytes = gzipped != null ? gzipped : responseBodies.serialized(body);
+            if (bytes == null) {
+                return delegate.write(Mono.just(body), actualType, elementType, mediaType, request, response, hints);
+            }
+            HttpHeaders headers = response.getHeaders();
+            headers.setContentType(mediaType != null && mediaType.isConcrete() ? mediaType : MediaType.APPLICATION_JSON);
+            if (gzipped != null) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+            }
+            headers.setContentLength(bytes.length);
+            // Wrapping shares the array; it is never written to once cached
+            DataBuffer buffer = response.bufferFactory().wrap(bytes);
+            return response.writeWith(Mono.just(buffer));
+        });
+    }
+
+    static boolean acceptsGzip(ServerHttpRequest request) {
+        for (String acceptEncoding : request.getHeaders().getOrEmpty(HttpHeaders.ACCEPT_ENCODING)) {
+            for (String coding : acceptEncoding.split(",")) {
+                String trimmed = coding.trim();
+                if (trimmed.regionMatches(true, 0, GZIP, 0, GZIP.length())
+                        && (trimmed.length() == GZIP.length() || trimmed.charAt(GZIP.length()) == ';')
+                        && !trimmed.replace(" ", "").endsWith("q=0")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -1,10 +1,19 @@
 package com.contentstack.webflux.controller;
 
 import com.contentstack.webflux.dto.ContentstackPageResponse;
+import com.contentstack.webflux.dto.FeatureFlagEvaluationRequest;
+import com.contentstack.webflux.dto.FeatureFlagEvaluationResponse;
+import com.contentstack.webflux.dto.FeatureFlags;
+import com.contentstack.webflux.dto.PageBundleRequest;
+import com.contentstack.webflux.dto.PageBundleResponse;
 import com.contentstack.webflux.dto.PersonalizeConfigResponse;
 import com.contentstack.webflux.dto.WebConfigResponse;
 import com.contentstack.webflux.dto.NavigationResponse;
+import com.contentstack.webflux.exception.ContentstackUnavailableException;
 import com.contentstack.webflux.service.ContentstackClientService;
+import com.contentstack.webflux.service.ContentstackEndpoint;
+import com.contentstack.webflux.service.FeatureFlagEvaluator;
+import com.contentstack.webflux.service.PageBundleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,14 +21,22 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Map;
 
 
@@ -32,9 +49,18 @@ public class ContentstackController {
 
     private static final Logger log = LoggerFactory.getLogger(ContentstackController.class);
     private final ContentstackClientService contentstackClientService;
+    private final PageBundleService pageBundleService;
+    private final HttpCacheHeaders httpCacheHeaders;
+    private final FeatureFlagEvaluator featureFlagEvaluator;
 
-    public ContentstackController(ContentstackClientService contentstackClientService) {
+    public ContentstackController(ContentstackClientService contentstackClientService,
+                                  PageBundleService pageBundleService,
+                                  HttpCacheHeaders httpCacheHeaders,
+                                  FeatureFlagEvaluator featureFlagEvaluator) {
         this.contentstackClientService = contentstackClientService;
+        this.pageBundleService = pageBundleService;
+        this.httpCacheHeaders = httpCacheHeaders;
+        this.featureFlagEvaluator = featureFlagEvaluator;
     }
 
     @Operation(
@@ -44,7 +70,9 @@ public class ContentstackController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved web configuration",
                     content = @Content(schema = @Schema(implementation = WebConfigResponse.Entry.class))),
-            @ApiResponse(responseCode = "500", description = "Internal server error")
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag given in If-None-Match"),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+            @ApiResponse(responseCode = "503", description = "Contentstack is overloaded or unavailable, retry later")
     })
     @GetMapping("/web-config")
     public Mono<ResponseEntity<WebConfigResponse.Entry>> getWebConfig(
@@ -53,18 +81,15 @@ public class ContentstackController {
             @Parameter(description = "Locale code", required = false, example = "en")
             @RequestParam(required = false) String locale,
             @Parameter(description = "Variant name", required = false, example = "")
-            @RequestParam(required = false) String variant) {
-
-        log.info("Received request to fetch entries for content type: {}", contentTypeUid);
+            @RequestParam(required = false) String variant,
+            ServerHttpRequest request) {
 
         return contentstackClientService
                 .fetchWebConfig(contentTypeUid, locale, variant)
-                .map(ResponseEntity::ok)
+                .map(entry -> httpCacheHeaders.ok(request, ContentstackEndpoint.WEB_CONFIG, contentTypeUid, locale, entry))
                 .onErrorResume(error -> {
-                    log.error("Error processing entries request: {}", error.getMessage());
-                    return Mono.just(ResponseEntity
-                            .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                            .build());
+                    logError("Error processing entries request", error);
+                    return Mono.just(errorResponse(error));
                 });
     }
 
@@ -76,27 +101,88 @@ public class ContentstackController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved merged feature flag configuration",
                     content = @Content(schema = @Schema(implementation = Map.class))),
-            @ApiResponse(responseCode = "500", description = "Internal server error")
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag given in If-None-Match"),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+            @ApiResponse(responseCode = "503", description = "Contentstack is overloaded or unavailable, retry later")
     })
     @GetMapping("/feature-flag-config")
-    public Mono<ResponseEntity<Map<String, Object>>> getFeatureFlagConfig(
+    public Mono<ResponseEntity<FeatureFlags>> getFeatureFlagConfig(
             @Parameter(description = "Content type UID", required = true, example = "feature_flag")
             @RequestParam String contentTypeUid,
             @Parameter(description = "Locale code", required = false, example = "en")
             @RequestParam(required = false) String locale,
             @Parameter(description = "Variant name", required = false, example = "")
-            @RequestParam(required = false) String variant) {
+            @RequestParam(required = false) String variant,
+            ServerHttpRequest request) {
+
+        return contentstackClientService
+                .fetchFeatureFlagConfig(contentTypeUid, locale, variant)
+                .map(entry -> httpCacheHeaders.ok(request, ContentstackEndpoint.FEATURE_FLAG_CONFIG, contentTypeUid, locale, entry))
+                .onErrorResume(error -> {
+                    logError("Error processing feature flag config request", error);
+                    return Mono.just(errorResponse(error));
+                });
+    }
 
-        log.info("Received request to fetch feature flag config for content type: {}", contentTypeUid);
+    @Operation(
+            summary = "Get Feature Flags by Key",
+            description = "Looks up the given flags in the feature flag configuration and returns only those, as a JSON object. Flags that do not exist are left out."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the requested feature flags",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag given in If-None-Match"),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+            @ApiResponse(responseCode = "503", description = "Contentstack is overloaded or unavailable, retry later")
+    })
+    @GetMapping("/feature-flags")
+    public Mono<ResponseEntity<Map<String, Object>>> getFeatureFlags(
+            @Parameter(description = "Content type UID", required = true, example = "feature_flag")
+            @RequestParam String contentTypeUid,
+            @Parameter(description = "Flag keys, repeated or comma separated", required = true, example = "enable_search,max_items")
+            @RequestParam List<String> keys,
+            @Parameter(description = "Locale code", required = false, example = "en")
+            @RequestParam(required = false) String locale,
+            @Parameter(description = "Variant name", required = false, example = "")
+            @RequestParam(required = false) String variant,
+            ServerHttpRequest request) {
 
         return contentstackClientService
                 .fetchFeatureFlagConfig(contentTypeUid, locale, variant)
+                .map(flags -> {
+                    Map<String, Object> selected = flags.select(keys);
+                    return httpCacheHeaders.ok(request, ContentstackEndpoint.FEATURE_FLAG_CONFIG, contentTypeUid, locale,
+                            flags, String.join(",", selected.keySet()), selected);
+                })
+                .onErrorResume(error -> {
+                    logError("Error processing feature flags request", error);
+                    return Mono.just(errorResponse(error));
+                });
+    }
+
+    @Operation(
+            summary = "Evaluate Feature Flags",
+            description = "Matches the given user attributes against the audience groups of the personalized configuration "
+                    + "and returns the feature flag values that apply to that user. Flags targeted at audiences through a "
+                    + "'<flag>.audiences' list resolve to false (booleans) or are left out for users outside those audiences"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully evaluated the feature flags",
+                    content = @Content(schema = @Schema(implementation = FeatureFlagEvaluationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Content type UIDs missing"),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+            @ApiResponse(responseCode = "503", description = "Contentstack is overloaded or unavailable, retry later")
+    })
+    @PostMapping("/feature-flags/evaluate")
+    public Mono<ResponseEntity<FeatureFlagEvaluationResponse>> evaluateFeatureFlags(
+            @Valid @RequestBody FeatureFlagEvaluationRequest request) {
+
+        return featureFlagEvaluator
+                .evaluate(request)
                 .map(ResponseEntity::ok)
                 .onErrorResume(error -> {
-                    log.error("Error processing feature flag config request: {}", error.getMessage());
-                    return Mono.just(ResponseEntity
-                            .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                            .build());
+                    logError("Error evaluating feature flags", error);
+                    return Mono.just(errorResponse(error));
                 });
     }
 
@@ -107,7 +193,9 @@ public class ContentstackController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved navigation configuration",
                     content = @Content(schema = @Schema(implementation = NavigationResponse.Entry.class))),
-            @ApiResponse(responseCode = "500", description = "Internal server error")
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag given in If-None-Match"),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+            @ApiResponse(responseCode = "503", description = "Contentstack is overloaded or unavailable, retry later")
     })
     @GetMapping("/navigation-config")
     public Mono<ResponseEntity<NavigationResponse.Entry>> getNavigationConfig(
@@ -116,18 +204,15 @@ public class ContentstackController {
             @Parameter(description = "Locale code", required = false, example = "en")
             @RequestParam(required = false) String locale,
             @Parameter(description = "Variant name", required = false, example = "")
-            @RequestParam(required = false) String variant) {
-
-        log.info("Received request to fetch navigation config for content type: {}", contentTypeUid);
+            @RequestParam(required = false) String variant,
+            ServerHttpRequest request) {
 
         return contentstackClientService
                 .fetchNavigationConfig(contentTypeUid, locale, variant)
-                .map(ResponseEntity::ok)
+                .map(entry -> httpCacheHeaders.ok(request, ContentstackEndpoint.NAVIGATION_CONFIG, contentTypeUid, locale, entry))
                 .onErrorResume(error -> {
-                    log.error("Error processing navigation config request: {}", error.getMessage());
-                    return Mono.just(ResponseEntity
-                            .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                            .build());
+                    logError("Error processing navigation config request", error);
+                    return Mono.just(errorResponse(error));
                 });
     }
 
@@ -138,7 +223,9 @@ public class ContentstackController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved personalized configuration",
                     content = @Content(schema = @Schema(implementation = PersonalizeConfigResponse.Entry.class))),
-            @ApiResponse(responseCode = "500", description = "Internal server error")
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag given in If-None-Match"),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+            @ApiResponse(responseCode = "503", description = "Contentstack is overloaded or unavailable, retry later")
     })
     @GetMapping("/personalized-config")
     public Mono<ResponseEntity<PersonalizeConfigResponse.Entry>> getPersonalizedConfig(
@@ -147,18 +234,15 @@ public class ContentstackController {
             @Parameter(description = "Locale code", required = false, example = "en")
             @RequestParam(required = false) String locale,
             @Parameter(description = "Variant name", required = false, example = "")
-            @RequestParam(required = false) String variant) {
-
-        log.info("Received request to fetch entries for content type: {}", contentTypeUid);
+            @RequestParam(required = false) String variant,
+            ServerHttpRequest request) {
 
         return contentstackClientService
                 .fetchPersonalizedConfig(contentTypeUid, locale, variant)
-                .map(ResponseEntity::ok)
+                .map(entry -> httpCacheHeaders.ok(request, ContentstackEndpoint.PERSONALIZED_CONFIG, contentTypeUid, locale, entry))
                 .onErrorResume(error -> {
-                    log.error("Error processing entries request: {}", error.getMessage());
-                    return Mono.just(ResponseEntity
-                            .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                            .build());
+                    logError("Error processing entries request", error);
+                    return Mono.just(errorResponse(error));
                 });
     }
 
@@ -170,7 +254,9 @@ public class ContentstackController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved entries",
                     content = @Content(schema = @Schema(implementation = ContentstackPageResponse.Entry.class))),
-            @ApiResponse(responseCode = "500", description = "Internal server error")
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag given in If-None-Match"),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+            @ApiResponse(responseCode = "503", description = "Contentstack is overloaded or unavailable, retry later")
     })
     @GetMapping("/entries")
     public Mono<ResponseEntity<ContentstackPageResponse.Entry>> getEntryByUrl(
@@ -179,21 +265,109 @@ public class ContentstackController {
             @Parameter(description = "Locale code", required = true, example = "en")
             @RequestParam(required = true) String locale,
             @Parameter(description = "Personalized variant name", required = false, example = "")
-            @RequestParam(required = false) String personalizedVariant) {
-
-        log.info("Received request to fetch entries for content type: {}", contentTypeUid);
+            @RequestParam(required = false) String personalizedVariant,
+            ServerHttpRequest request) {
 
         return contentstackClientService
                 .fetchEntries(contentTypeUid, locale, personalizedVariant)
-                .map(ResponseEntity::ok)
+                .map(entry -> httpCacheHeaders.ok(request, ContentstackEndpoint.ENTRIES, contentTypeUid, locale, entry))
                 .onErrorResume(error -> {
-                    log.error("Error processing entry by URL request: {}", error.getMessage());
-                    return Mono.just(ResponseEntity
-                            .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                            .build());
+                    logError("Error processing entry by URL request", error);
+                    return Mono.just(errorResponse(error));
                 });
     }
 
+    @Operation(
+            summary = "Get Entries (passthrough)",
+            description = "Streams the first entry exactly as returned by the Contentstack CDN, without binding it to the page model. "
+                    + "Selected with passthrough=true; the cached, typed /entries response remains the default"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved raw entry JSON",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+            @ApiResponse(responseCode = "503", description = "Contentstack is overloaded or unavailable, retry later")
+    })
+    @GetMapping(value = "/entries", params = "passthrough=true", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<DataBuffer> getEntryByUrlPassthrough(
+            @Parameter(description = "Content type UID", required = true, example = "home_page")
+            @RequestParam String contentTypeUid,
+            @Parameter(description = "Locale code", required = true, example = "en")
+            @RequestParam(required = true) String locale,
+            @Parameter(description = "Personalized variant name", required = false, example = "")
+            @RequestParam(required = false) String personalizedVariant) {
+
+        // Errors raised before the first slice is written still reach GlobalExceptionHandler, as a 503
+        // when Contentstack is overloaded or its circuit is open and a 500 otherwise; later ones abort
+        // the response
+        return contentstackClientService.fetchEntriesPassthrough(contentTypeUid, locale, personalizedVariant);
+    }
+
+    @Operation(
+            summary = "Get Page Bundle",
+            description = "Fetches the page entry, navigation, web configuration, feature flags and personalized configuration "
+                    + "in parallel and returns them as one document. Only sections whose content type UID is given are fetched; "
+                    + "a section that fails is reported under errors, as an error code, without failing the others"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "At least one section was retrieved",
+                    content = @Content(schema = @Schema(implementation = PageBundleResponse.class))),
+            @ApiResponse(responseCode = "400", description = "No section requested or locale missing"),
+            @ApiResponse(responseCode = "500", description = "Every requested section failed",
+                    content = @Content(schema = @Schema(implementation = PageBundleResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Every requested section failed with an error worth "
+                    + "retrying (unavailable, timeout, upstream_error); see Retry-After",
+                    content = @Content(schema = @Schema(implementation = PageBundleResponse.class)))
+    })
+    @GetMapping("/page-bundle")
+    public Mono<ResponseEntity<PageBundleResponse>> getPageBundle(@ParameterObject @Valid PageBundleRequest request) {
+
+        if (!request.hasAnySection()) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return pageBundleService
+                .fetchPageBundle(request)
+                .map(bundle -> {
+                    if (bundle.hasContent() || bundle.getErrors().isEmpty()) {
+                        return ResponseEntity.ok(bundle);
+                    }
+                    if (bundle.isUnavailable()) {
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .body(bundle);
+                    }
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(bundle);
+                });
+    }
+
+
+    /**
+     * Shed and short-circuited calls are expected under load and counted by their own meters, so
+     * they are not logged as errors.
+     */
+    private static void logError(String message, Throwable error) {
+        if (error instanceof ContentstackUnavailableException) {
+            log.debug("{}: {}", message, error.getMessage());
+        } else {
+            log.error("{}: {}", message, error.getMessage());
+        }
+    }
+
+    /**
+     * Load shedding and open circuits are reported as 503 so clients and load balancers back off
+     * and retry.
+     */
+    private static <T> ResponseEntity<T> errorResponse(Throwable error) {
+        if (error instanceof ContentstackUnavailableException) {
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        }
+        return ResponseEntity
+                .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .build();
+    }
 
     @Operation(
             summary = "Health Check",
@@ -0,0 +1,79 @@
+package com.contentstack.webflux.controller;
+
+import com.contentstack.webflux.cache.CacheKey;
+import com.contentstack.webflux.dto.ContentstackWebhookEvent;
+import com.contentstack.webflux.service.ContentstackWebhookService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/contentstack/webhooks")
+@Tag(name = "Contentstack Webhooks", description = "Receives Contentstack webhooks to keep cached content fresh")
+public class ContentstackWebhookController {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentstackWebhookController.class);
+
+    private final ContentstackWebhookService webhookService;
+    private final ObjectMapper objectMapper;
+
+    public ContentstackWebhookController(ContentstackWebhookService webhookService, ObjectMapper objectMapper) {
+        this.webhookService = webhookService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Operation(
+            summary = "Entry Webhook",
+            description = "Invalidates cached responses for the content type and locale of a published, unpublished or deleted entry "
+                    + "and re-fetches them in the background. The shared webhook secret must be sent in the token header "
+                    + "or as the HTTP Basic auth password"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Webhook applied or ignored"),
+            @ApiResponse(responseCode = "400", description = "Malformed webhook payload"),
+            @ApiResponse(responseCode = "401", description = "Missing or invalid webhook secret")
+    })
+    @PostMapping("/entries")
+    public Mono<ResponseEntity<Map<String, Object>>> handleEntryWebhook(
+            @RequestHeader HttpHeaders headers,
+            @RequestBody byte[] body) {
+
+        if (!webhookService.isAuthentic(headers)) {
+            log.warn("Rejected Contentstack webhook with missing or invalid credentials");
+            webhookService.countRejected();
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+        }
+
+        ContentstackWebhookEvent event;
+        try {
+            event = objectMapper.readValue(body, ContentstackWebhookEvent.class);
+        } catch (IOException e) {
+            log.warn("Rejected malformed Contentstack webhook: {}", e.getMessage());
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+
+        List<CacheKey> invalidated = webhookService.handle(event);
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("event", event.getEvent());
+        response.put("invalidated", invalidated.size());
+        return Mono.just(ResponseEntity.ok(response));
+    }
+}
@@ -0,0 +1,92 @@
+package com.contentstack.webflux.controller;
+
+import com.contentstack.webflux.cache.ResponseBodies;
+import com.contentstack.webflux.config.ContentstackConfig;
+import com.contentstack.webflux.service.ContentstackEndpoint;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds 200 responses carrying the {@code ETag}, {@code Cache-Control}, {@code Vary} and
+ * surrogate key headers configured under {@code contentstack.responses}.
+ * <p>
+ * WebFlux compares the {@code ETag} of a returned {@link ResponseEntity} with the request's
+ * {@code If-None-Match} and answers with 304 and no body when it matches, so a repeat visitor
+ * costs neither serialization nor egress for an unchanged entry. The gzip'd and identity forms
+ * written by {@link CachedBodyWriter} are different representations, so the gzip'd one carries
+ * the entity tag with a {@value #GZIP_SUFFIX} suffix. Bodies it does not precompress get a weak
+ * tag when the client accepts gzip, since {@code server.compression} may still compress them.
+ */
+@Component
+public class HttpCacheHeaders {
+
+    static final String GZIP_SUFFIX = "-gzip";
+
+    private final ContentstackConfig.Responses properties;
+    private final ResponseBodies responseBodies;
+
+    public HttpCacheHeaders(ContentstackConfig config, ResponseBodies responseBodies) {
+        this.properties = config.getResponses();
+        this.responseBodies = responseBodies;
+    }
+
+    public <T> ResponseEntity<T> ok(ServerHttpRequest request, ContentstackEndpoint endpoint,
+                                    String contentTypeUid, String locale, T body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (properties.isEtag()) {
+            String etag = responseBodies.etagFor(body);
+            if (CachedBodyWriter.acceptsGzip(request)) {
+                // Bodies that are not precompressed may still be gzip'd by server.compression, and
+                // only a weak tag may stand for both encodings
+                etag = responseBodies.gzipped(body) != null
+                        ? etag.substring(0, etag.length() - 1) + GZIP_SUFFIX + "\""
+                        : "W/" + etag;
+            }
+            response.eTag(etag);
+        }
+        return withHeaders(response, endpoint, contentTypeUid, locale).body(body);
+    }
+
+    /**
+     * A 200 response for {@code part}, selected from the cached body {@code whole} by
+     * {@code selector}. Its ETag is derived from the one of {@code whole}, so a part built per
+     * request is neither serialized for its tag nor held on to.
+     */
+    public <T> ResponseEntity<T> ok(ServerHttpRequest request, ContentstackEndpoint endpoint,
+                                    String contentTypeUid, String locale, Object whole, String selector, T part) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (properties.isEtag()) {
+            String etag = responseBodies.etagFor(whole, selector);
+            // Never precompressed, so weak whenever server.compression may gzip it
+            response.eTag(CachedBodyWriter.acceptsGzip(request) ? "W/" + etag : etag);
+        }
+        return withHeaders(response, endpoint, contentTypeUid, locale).body(part);
+    }
+
+    private ResponseEntity.BodyBuilder withHeaders(ResponseEntity.BodyBuilder response, ContentstackEndpoint endpoint,
+                                                   String contentTypeUid, String locale) {
+        String cacheControl = properties.getCacheControl().get(endpoint);
+        if (cacheControl != null && !cacheControl.isEmpty()) {
+            response.header("Cache-Control", cacheControl);
+        }
+        if (properties.isCompression()) {
+            response.varyBy(HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (properties.isSurrogateKeys()) {
+            response.header(properties.getSurrogateKeyHeader(), surrogateKeys(contentTypeUid, locale));
+        }
+        return response;
+    }
+
+    /**
+     * The same granularity as webhook invalidation: the content type, and the content type in
+     * one locale.
+     */
+    private static String surrogateKeys(String contentTypeUid, String locale) {
+        return locale != null && !locale.isEmpty()
+                ? contentTypeUid + " " + contentTypeUid + ":" + locale
+                : contentTypeUid;
+    }
+}
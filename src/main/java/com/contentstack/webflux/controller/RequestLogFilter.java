@@ -0,0 +1,93 @@
+package com.contentstack.webflux.controller;
+
+import com.contentstack.webflux.config.ContentstackConfig;
+import com.contentstack.webflux.service.RequestTrace;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes one structured line per sampled API request to the {@value #LOGGER} logger, with the
+ * status, duration, response size, the cache outcome of every fetch and the time spent upstream:
+ * <pre>
+ * GET /api/contentstack/entries?contentTypeUid=home&amp;locale=en status=200 durationMs=3.1 bytes=5120
+ * cache=ENTRIES/home/en:HIT upstreamCalls=0 upstreamMs=0.0
+ * </pre>
+ * A share {@code sampleRate} of requests is logged, plus every request sending
+ * {@code debugHeader: true}. All other requests pass through untouched, so logging costs nothing
+ * on the hot path; the lines are handed to an asynchronous appender (see
+ * {@code logback-spring.xml}) and never block a Netty thread on I/O.
+ */
+@Component
+public class RequestLogFilter implements WebFilter {
+
+    public static final String LOGGER = "contentstack.requests";
+
+    private static final Logger requestLog = LoggerFactory.getLogger(LOGGER);
+    private static final String API_PATH = "/api/";
+
+    private final ContentstackConfig.RequestLog properties;
+
+    public RequestLogFilter(ContentstackConfig config) {
+        this.properties = config.getRequestLog();
+    }
+
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        if (!sampled(exchange.getRequest())) {
+            return chain.filter(exchange);
+        }
+        long startNanos = System.nanoTime();
+        RequestTrace trace = new RequestTrace();
+        return chain.filter(exchange)
+                .doFinally(signal -> log(exchange, trace, startNanos, signal))
+                .contextWrite(trace::writeTo);
+    }
+
+    private boolean sampled(ServerHttpRequest request) {
+        if (!properties.isEnabled() || !requestLog.isInfoEnabled()
+                || !request.getPath().value().startsWith(API_PATH)) {
+            return false;
+        }
+        return "true".equalsIgnoreCase(request.getHeaders().getFirst(properties.getDebugHeader()))
+                || ThreadLocalRandom.current().nextDouble() < properties.getSampleRate();
+    }
+
+    private static void log(ServerWebExchange exchange, RequestTrace trace, long startNanos, SignalType signal) {
+        ServerHttpRequest request = exchange.getRequest();
+        ServerHttpResponse response = exchange.getResponse();
+        HttpStatusCode status = response.getStatusCode();
+        long contentLength = response.getHeaders().getContentLength();
+
+        StringBuilder line = new StringBuilder(256)
+                .append(request.getMethod().name()).append(' ')
+                .append(request.getURI().getRawPath());
+        if (request.getURI().getRawQuery() != null) {
+            line.append('?').append(request.getURI().getRawQuery());
+        }
+        line.append(" status=").append(signal == SignalType.CANCEL ? "CANCELLED" : status != null ? status.value() : "-")
+                .append(" durationMs=").append(millis(System.nanoTime() - startNanos))
+                .append(" bytes=").append(contentLength >= 0 ? String.valueOf(contentLength) : "-")
+                .append(" cache=");
+        trace.appendFetches(line);
+        line.append(" upstreamCalls=").append(trace.upstreamCalls())
+                .append(" upstreamMs=").append(millis(trace.upstreamNanos()));
+        requestLog.info(line.toString());
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 100_000.0) / 10.0;
+    }
+}
@@ -0,0 +1,67 @@
+package com.contentstack.webflux.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+/**
+ * The parts of a Contentstack webhook payload needed to invalidate cached content, e.g. for
+ * {@code {"module": "entry", "event": "publish", "data": {"entry": {...}, "content_type": {...}}}}.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ContentstackWebhookEvent {
+
+    @JsonProperty("module")
+    private String module;
+
+    @JsonProperty("event")
+    private String event;
+
+    @JsonProperty("data")
+    private Data data;
+
+    @lombok.Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Data {
+
+        @JsonProperty("entry")
+        private Entry entry;
+
+        @JsonProperty("content_type")
+        private ContentType contentType;
+
+        @JsonProperty("environment")
+        private Environment environment;
+
+        @JsonProperty("locale")
+        private String locale;
+    }
+
+    @lombok.Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Entry {
+
+        @JsonProperty("uid")
+        private String uid;
+
+        @JsonProperty("locale")
+        private String locale;
+    }
+
+    @lombok.Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ContentType {
+
+        @JsonProperty("uid")
+        private String uid;
+    }
+
+    @lombok.Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Environment {
+
+        @JsonProperty("name")
+        private String name;
+    }
+}
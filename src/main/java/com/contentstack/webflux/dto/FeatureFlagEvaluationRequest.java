@@ -0,0 +1,40 @@
+package com.contentstack.webflux.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Body of {@code /feature-flags/evaluate}: the user's attributes and where to read the flags and
+ * the audiences they are targeted at.
+ */
+@Data
+public class FeatureFlagEvaluationRequest {
+
+    @Schema(description = "Content type UID of the feature flag configuration", example = "feature_flag",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "Feature flag content type UID is required")
+    private String featureFlagContentTypeUid;
+
+    @Schema(description = "Content type UID of the personalized configuration holding the audiences",
+            example = "personalize_config", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "Personalized content type UID is required")
+    private String personalizedContentTypeUid;
+
+    @Schema(description = "Locale code", example = "en")
+    private String locale;
+
+    @Schema(description = "Variant name", example = "")
+    private String variant;
+
+    @Schema(description = "User attributes matched against the audience group attributes",
+            example = "{\"country\": \"US\", \"tier\": \"gold\"}")
+    private Map<String, String> attributes = new LinkedHashMap<>();
+
+    @Schema(description = "Flags to return; all flags when empty", example = "[\"enable_search\"]")
+    private List<String> keys;
+}
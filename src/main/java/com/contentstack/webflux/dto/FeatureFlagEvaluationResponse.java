@@ -0,0 +1,16 @@
+package com.contentstack.webflux.dto;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flag values resolved for one user, and the audience groups the user was matched to.
+ */
+@Data
+public class FeatureFlagEvaluationResponse {
+
+    private List<String> audiences;
+    private Map<String, Object> flags;
+}
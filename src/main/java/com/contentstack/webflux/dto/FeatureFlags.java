@@ -0,0 +1,252 @@
+package com.contentstack.webflux.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of a feature flag configuration, compiled once per fetch from
+ * {@link FeatureFlagConfigResponse.Entry#getMergedConfig()}.
+ * <p>
+ * Flags are indexed by an open-addressing hash table over their names. Boolean and numeric values
+ * are also kept unboxed, so {@link #getBoolean}, {@link #getLong}, {@link #getDouble},
+ * {@link #getString} and {@link #get} do not allocate. Nested objects and lists are wrapped read-only.
+ * <p>
+ * The JSON form is the flat map {@code /feature-flag-config} has always returned, with keys in
+ * sorted order so that equal configurations serialize to identical bytes.
+ */
+public final class FeatureFlags {
+
+    public static final FeatureFlags EMPTY = new FeatureFlags(Map.of());
+
+    private static final byte NULL = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte NUMBER = 2;
+    private static final byte STRING = 3;
+    private static final byte DECIMAL = 4;
+    private static final byte OTHER = 5;
+
+    private final String[] names;
+    private final byte[] kinds;
+    /** Booleans as 0 or 1, integral numbers, and the bits of decimal numbers, by flag index. */
+    private final long[] primitives;
+    /** The value as served in JSON, by flag index. */
+    private final Object[] values;
+    /** Flag index + 1 per slot, 0 for an empty slot. */
+    private final int[] table;
+    private final int mask;
+    private final Map<String, Object> map;
+
+    private FeatureFlags(Map<String, ?> flags) {
+        int size = flags.size();
+        names = flags.keySet().toArray(new String[0]);
+        Arrays.sort(names);
+        kinds = new byte[size];
+        primitives = new long[size];
+        values = new Object[size];
+        table = new int[tableSize(size)];
+        mask = table.length - 1;
+
+        Map<String, Object> map = new LinkedHashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            Object value = readOnly(flags.get(names[i]));
+            values[i] = value;
+            if (value == null) {
+                kinds[i] = NULL;
+            } else if (value instanceof Boolean bool) {
+                kinds[i] = BOOLEAN;
+                primitives[i] = bool ? 1 : 0;
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                kinds[i] = NUMBER;
+                primitives[i] = ((Number) value).longValue();
+                values[i] = primitives[i];
+            } else if (value instanceof Double || value instanceof Float) {
+                kinds[i] = DECIMAL;
+                primitives[i] = Double.doubleToRawLongBits(((Number) value).doubleValue());
+            } else if (value instanceof String) {
+                kinds[i] = STRING;
+            } else {
+                kinds[i] = OTHER;
+            }
+            map.put(names[i], values[i]);
+
+            int slot = spread(names[i].hashCode()) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+        this.map = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Compiles the merged configuration of a fetched entry.
+     */
+    public static FeatureFlags compile(FeatureFlagConfigResponse.Entry entry) {
+        return of(entry.getMergedConfig());
+    }
+
+    /**
+     * Builds a snapshot from a flat flag map, as served in JSON or stored in a cache snapshot.
+     */
+    @JsonCreator
+    public static FeatureFlags of(Map<String, ?> flags) {
+        if (flags == null || flags.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, Object> withNames = new LinkedHashMap<>(flags.size() * 2);
+        flags.forEach((name, value) -> {
+            if (name != null) {
+                withNames.put(name, value);
+            }
+        });
+        return new FeatureFlags(withNames);
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public boolean isEmpty() {
+        return names.length == 0;
+    }
+
+    public boolean contains(String name) {
+        return indexOf(name) >= 0;
+    }
+
+    /**
+     * The flag's value, or {@code defaultValue} when it is missing or not a boolean.
+     */
+    public boolean getBoolean(String name, boolean defaultValue) {
+        int index = indexOf(name);
+        return index >= 0 && kinds[index] == BOOLEAN ? primitives[index] != 0 : defaultValue;
+    }
+
+    /**
+     * The flag's value, or {@code defaultValue} when it is missing or not an integral number.
+     */
+    public long getLong(String name, long defaultValue) {
+        int index = indexOf(name);
+        return index >= 0 && kinds[index] == NUMBER ? primitives[index] : defaultValue;
+    }
+
+    /**
+     * The flag's value, or {@code defaultValue} when it is missing or not a number.
+     */
+    public double getDouble(String name, double defaultValue) {
+        int index = indexOf(name);
+        if (index < 0) {
+            return defaultValue;
+        }
+        return switch (kinds[index]) {
+            case NUMBER -> primitives[index];
+            case DECIMAL -> Double.longBitsToDouble(primitives[index]);
+            default -> defaultValue;
+        };
+    }
+
+    /**
+     * The flag's value, or {@code defaultValue} when it is missing or not a string.
+     */
+    public String getString(String name, String defaultValue) {
+        int index = indexOf(name);
+        return index >= 0 && kinds[index] == STRING ? (String) values[index] : defaultValue;
+    }
+
+    /**
+     * The flag's value as served in JSON, or {@code null} when it is missing.
+     */
+    public Object get(String name) {
+        int index = indexOf(name);
+        return index >= 0 ? values[index] : null;
+    }
+
+    /**
+     * The flags named in {@code names} that exist, in sorted order like {@link #asMap()}, so the
+     * same flags asked for in any order or with repeats select identical maps.
+     */
+    public Map<String, Object> select(Collection<String> names) {
+        int[] found = new int[names.size()];
+        int count = 0;
+        for (String name : names) {
+            int index = indexOf(name);
+            if (index >= 0) {
+                found[count++] = index;
+            }
+        }
+        Arrays.sort(found, 0, count);
+        Map<String, Object> selected = new LinkedHashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            selected.put(this.names[found[i]], values[found[i]]);
+        }
+        return selected;
+    }
+
+    @JsonValue
+    public Map<String, Object> asMap() {
+        return map;
+    }
+
+    private int indexOf(String name) {
+        if (name == null || names.length == 0) {
+            return -1;
+        }
+        int slot = spread(name.hashCode()) & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            if (names[entry - 1].equals(name)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Power of two with a load factor of at most 0.5.
+     */
+    private static int tableSize(int size) {
+        return Math.max(2, Integer.highestOneBit(Math.max(1, size) * 2 - 1) << 1);
+    }
+
+    private static Object readOnly(Object value) {
+        if (value instanceof Map<?, ?> nested) {
+            Map<Object, Object> copy = new LinkedHashMap<>(nested.size() * 2);
+            nested.forEach((key, item) -> copy.put(key, readOnly(item)));
+            return Collections.unmodifiableMap(copy);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(item -> copy.add(readOnly(item)));
+            return Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof FeatureFlags flags && map.equals(flags.map);
+    }
+
+    @Override
+    public int hashCode() {
+        return map.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "FeatureFlags" + map;
+    }
+}
@@ -0,0 +1,50 @@
+package com.contentstack.webflux.dto;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+/**
+ * Query parameters of {@code /page-bundle}. Each section is fetched only when its content type
+ * UID is given.
+ */
+@Data
+public class PageBundleRequest {
+
+    @Parameter(description = "Locale code", required = true, example = "en")
+    @NotBlank(message = "Locale is required")
+    private String locale;
+
+    @Parameter(description = "Variant name for the configuration sections", example = "")
+    private String variant;
+
+    @Parameter(description = "Personalized variant name for the page entry", example = "")
+    private String personalizedVariant;
+
+    @Parameter(description = "Content type UID of the page entry", example = "home_page")
+    private String pageContentTypeUid;
+
+    @Parameter(description = "Content type UID of the navigation configuration", example = "navigation_config")
+    private String navigationContentTypeUid;
+
+    @Parameter(description = "Content type UID of the web configuration", example = "tbw_web_config")
+    private String webConfigContentTypeUid;
+
+    @Parameter(description = "Content type UID of the feature flag configuration", example = "feature_flag")
+    private String featureFlagContentTypeUid;
+
+    @Parameter(description = "Content type UID of the personalized configuration", example = "personalize_config")
+    private String personalizedContentTypeUid;
+
+    public boolean hasAnySection() {
+        return hasText(pageContentTypeUid)
+                || hasText(navigationContentTypeUid)
+                || hasText(webConfigContentTypeUid)
+                || hasText(featureFlagContentTypeUid)
+                || hasText(personalizedContentTypeUid);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,54 @@
+package com.contentstack.webflux.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Everything a page render needs from Contentstack in one document. Sections that were not
+ * requested or failed to load are omitted; failures are listed in {@code errors} by section name,
+ * as one of the error codes below. Upstream details stay in the logs.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PageBundleResponse {
+
+    /** Shed by a bulkhead or short-circuited by an open circuit breaker. */
+    public static final String UNAVAILABLE = "unavailable";
+    public static final String TIMEOUT = "timeout";
+    /** A 5xx or 429 response or an I/O error from the CDN. */
+    public static final String UPSTREAM_ERROR = "upstream_error";
+    public static final String NOT_FOUND = "not_found";
+    public static final String INTERNAL_ERROR = "internal_error";
+
+    private ContentstackPageResponse.Entry page;
+    private NavigationResponse.Entry navigation;
+    private WebConfigResponse.Entry webConfig;
+    private FeatureFlags featureFlags;
+    private PersonalizeConfigResponse.Entry personalizedConfig;
+    @Schema(description = "Error code by failed section: unavailable, timeout, upstream_error, not_found or internal_error",
+            example = "{\"navigation\": \"timeout\"}")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private Map<String, String> errors = new LinkedHashMap<>();
+
+    /**
+     * Whether at least one section was loaded.
+     */
+    public boolean hasContent() {
+        return page != null || navigation != null || webConfig != null
+                || featureFlags != null || personalizedConfig != null;
+    }
+
+    /**
+     * Whether nothing was loaded and every failure is one that retrying later may fix.
+     */
+    @JsonIgnore
+    public boolean isUnavailable() {
+        return !hasContent() && !errors.isEmpty() && errors.values().stream()
+                .allMatch(code -> UNAVAILABLE.equals(code) || TIMEOUT.equals(code) || UPSTREAM_ERROR.equals(code));
+    }
+}
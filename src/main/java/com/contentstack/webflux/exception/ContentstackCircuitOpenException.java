@@ -0,0 +1,13 @@
+package com.contentstack.webflux.exception;
+
+/**
+ * Raised without calling Contentstack while the circuit breaker for the CDN host or the
+ * content type is open. Cached responses are served as last-known-good content instead where
+ * available.
+ */
+public class ContentstackCircuitOpenException extends ContentstackUnavailableException {
+
+    public ContentstackCircuitOpenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.contentstack.webflux.exception;
+
+/**
+ * Raised without calling Contentstack when the concurrency limit for an endpoint is reached,
+ * so the request can be shed with a 503 right away instead of queueing for a connection.
+ */
+public class ContentstackOverloadedException extends ContentstackUnavailableException {
+
+    public ContentstackOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.contentstack.webflux.exception;
+
+/**
+ * Raised without calling Contentstack when a call is refused to protect the CDN or this
+ * service. Reported as 503 so clients and load balancers back off and retry, and logged at debug
+ * level only; the bulkhead and circuit breaker meters count them.
+ */
+public class ContentstackUnavailableException extends RuntimeException {
+
+    /**
+     * Without a stack trace: these are raised in bulk exactly when the service is under pressure,
+     * and the message already says which breaker or bulkhead refused the call.
+     */
+    public ContentstackUnavailableException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -3,6 +3,7 @@ package com.contentstack.webflux.exception;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -31,6 +32,20 @@ public class GlobalExceptionHandler {
         return Mono.just(ResponseEntity.badRequest().body(errorResponse));
     }
 
+    @ExceptionHandler(ContentstackUnavailableException.class)
+    public Mono<ResponseEntity<Map<String, Object>>> handleUnavailableException(
+            ContentstackUnavailableException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.put("message", ex.getMessage());
+
+        log.debug("Contentstack unavailable: {}", ex.getMessage());
+        return Mono.just(ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse));
+    }
+
     @ExceptionHandler(Exception.class)
     public Mono<ResponseEntity<Map<String, Object>>> handleGenericException(Exception ex) {
         Map<String, Object> errorResponse = new HashMap<>();
@@ -0,0 +1,64 @@
+package com.contentstack.webflux.service;
+
+import com.contentstack.webflux.cache.CachedResponse;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Conditional request state of one upstream fetch: the validators of the cached response sent
+ * as {@code If-None-Match} and {@code If-Modified-Since}, and the validators or 304 received
+ * back.
+ */
+final class ConditionalRequest {
+
+    private String ifNoneMatch;
+    private String ifModifiedSince;
+    private volatile String eTag;
+    private volatile String lastModified;
+    private volatile boolean notModified;
+
+    /**
+     * Prepares the next fetch to revalidate {@code cached}, unless there is nothing to revalidate:
+     * no cached response, one without validators, or one invalidated by a publish webhook.
+     *
+     * @return whether the fetch is conditional
+     */
+    boolean revalidate(CachedResponse cached) {
+        boolean conditional = cached != null && !cached.invalidated() && cached.hasValidators();
+        ifNoneMatch = conditional ? cached.upstreamETag() : null;
+        ifModifiedSince = conditional ? cached.upstreamLastModified() : null;
+        eTag = null;
+        lastModified = null;
+        notModified = false;
+        return conditional;
+    }
+
+    void applyTo(HttpHeaders headers) {
+        if (ifNoneMatch != null) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        if (ifModifiedSince != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, ifModifiedSince);
+        }
+    }
+
+    void received(HttpHeaders headers) {
+        eTag = headers.getFirst(HttpHeaders.ETAG);
+        lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+    }
+
+    void notModified() {
+        notModified = ifNoneMatch != null || ifModifiedSince != null;
+    }
+
+    boolean isNotModified() {
+        return notModified;
+    }
+
+    String eTag() {
+        return eTag;
+    }
+
+    String lastModified() {
+        return lastModified;
+    }
+}
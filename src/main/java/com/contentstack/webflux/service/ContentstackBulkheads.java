@@ -0,0 +1,177 @@
+package com.contentstack.webflux.service;
+
+import com.contentstack.webflux.config.ContentstackConfig;
+import com.contentstack.webflux.exception.ContentstackOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One bulkhead per {@link ContentstackEndpoint} for upstream CDN calls, so a surge of page
+ * requests cannot take the connections needed for navigation or configuration.
+ * <p>
+ * Each bulkhead admits calls up to an adaptive concurrency limit (AIMD): the limit grows by one
+ * for each call that completes in time while the bulkhead is at least half used, and is cut by
+ * {@code backoffRatio} when a call fails transiently (5xx or 429, I/O error, timeout) or takes
+ * longer than {@code latencyThreshold}. The limit is cut at most once per round of calls: only a
+ * call that started after the previous cut can cut it again, so a burst of failures from calls
+ * that were in flight together counts as one signal. Calls beyond the limit fail immediately with
+ * {@link ContentstackOverloadedException} rather than waiting.
+ * <p>
+ * The limit, calls in flight and rejections are published per endpoint as
+ * {@code contentstack.bulkhead.*} meters.
+ */
+@Component
+public class ContentstackBulkheads {
+
+    private final ContentstackConfig.Bulkhead properties;
+    private final Map<ContentstackEndpoint, Bulkhead> bulkheads = new EnumMap<>(ContentstackEndpoint.class);
+
+    public ContentstackBulkheads(ContentstackConfig config, MeterRegistry meterRegistry) {
+        this.properties = config.getBulkhead();
+        for (ContentstackEndpoint endpoint : ContentstackEndpoint.values()) {
+            Bulkhead bulkhead = new Bulkhead(properties, Counter.builder("contentstack.bulkhead.rejected")
+                    .description("Upstream calls rejected because the endpoint's concurrency limit was reached")
+                    .tag("endpoint", endpoint.name())
+                    .register(meterRegistry));
+            Gauge.builder("contentstack.bulkhead.limit", bulkhead, Bulkhead::limit)
+                    .description("Current adaptive concurrency limit for upstream calls")
+                    .tag("endpoint", endpoint.name())
+                    .register(meterRegistry);
+            Gauge.builder("contentstack.bulkhead.inflight", bulkhead, Bulkhead::inflight)
+                    .description("Upstream calls in flight")
+                    .tag("endpoint", endpoint.name())
+                    .register(meterRegistry);
+            bulkheads.put(endpoint, bulkhead);
+        }
+    }
+
+    public <T> Mono<T> limit(ContentstackEndpoint endpoint, Mono<T> call) {
+        if (!properties.isEnabled()) {
+            return call;
+        }
+        return Mono.defer(() -> {
+            Bulkhead bulkhead = bulkheads.get(endpoint);
+            Permit permit = bulkhead.tryAcquire();
+            if (permit == null) {
+                return Mono.error(rejected(endpoint, bulkhead));
+            }
+            return call
+                    .doOnSuccess(value -> permit.release(false))
+                    .doOnError(error -> permit.release(UpstreamErrors.isTransient(error)))
+                    .doOnCancel(permit::ignore);
+        });
+    }
+
+    public <T> Flux<T> limit(ContentstackEndpoint endpoint, Flux<T> call) {
+        if (!properties.isEnabled()) {
+            return call;
+        }
+        return Flux.defer(() -> {
+            Bulkhead bulkhead = bulkheads.get(endpoint);
+            Permit permit = bulkhead.tryAcquire();
+            if (permit == null) {
+                return Flux.error(rejected(endpoint, bulkhead));
+            }
+            return call
+                    .doOnComplete(() -> permit.release(false))
+                    .doOnError(error -> permit.release(UpstreamErrors.isTransient(error)))
+                    .doOnCancel(permit::ignore);
+        });
+    }
+
+    private static ContentstackOverloadedException rejected(ContentstackEndpoint endpoint, Bulkhead bulkhead) {
+        bulkhead.rejected.increment();
+        return new ContentstackOverloadedException(
+                "Too many concurrent Contentstack requests for " + endpoint + " (limit " + bulkhead.limit() + ")");
+    }
+
+    /**
+     * AIMD concurrency limit. State changes are short and made under the bulkhead's monitor.
+     */
+    private static final class Bulkhead {
+
+        private final ContentstackConfig.Bulkhead properties;
+        private final Counter rejected;
+        private int limit;
+        private int inflight;
+        private long lastDecreaseNanos;
+
+        private Bulkhead(ContentstackConfig.Bulkhead properties, Counter rejected) {
+            this.properties = properties;
+            this.rejected = rejected;
+            this.limit = properties.getInitialLimit();
+            this.lastDecreaseNanos = System.nanoTime();
+        }
+
+        synchronized int limit() {
+            return limit;
+        }
+
+        synchronized int inflight() {
+            return inflight;
+        }
+
+        synchronized Permit tryAcquire() {
+            if (inflight >= limit) {
+                return null;
+            }
+            inflight++;
+            return new Permit(this, System.nanoTime());
+        }
+
+        synchronized void release(long acquiredAtNanos, long releasedAtNanos, boolean overload) {
+            if (overload || releasedAtNanos - acquiredAtNanos > properties.getLatencyThreshold().toNanos()) {
+                // Calls already in flight at the last cut saw the old limit; they do not cut again
+                if (acquiredAtNanos - lastDecreaseNanos >= 0) {
+                    limit = Math.max(properties.getMinLimit(), (int) (limit * properties.getBackoffRatio()));
+                    lastDecreaseNanos = releasedAtNanos;
+                }
+            } else if (inflight * 2 >= limit) {
+                limit = Math.min(properties.getMaxLimit(), limit + 1);
+            }
+            inflight--;
+        }
+
+        synchronized void ignore() {
+            inflight--;
+        }
+    }
+
+    /**
+     * A slot in a bulkhead, released exactly once.
+     */
+    private static final class Permit {
+
+        private final Bulkhead bulkhead;
+        private final long acquiredAtNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Bulkhead bulkhead, long acquiredAtNanos) {
+            this.bulkhead = bulkhead;
+            this.acquiredAtNanos = acquiredAtNanos;
+        }
+
+        void release(boolean overload) {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.release(acquiredAtNanos, System.nanoTime(), overload);
+            }
+        }
+
+        /**
+         * Frees the slot without adjusting the limit, e.g. when every subscriber went away.
+         */
+        void ignore() {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.ignore();
+            }
+        }
+    }
+}
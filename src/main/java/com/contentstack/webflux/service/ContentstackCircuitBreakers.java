@@ -0,0 +1,306 @@
+package com.contentstack.webflux.service;
+
+import com.contentstack.webflux.config.ContentstackConfig;
+import com.contentstack.webflux.exception.ContentstackCircuitOpenException;
+import com.contentstack.webflux.exception.ContentstackUnavailableException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Circuit breakers for upstream CDN calls, one per CDN host and one per content type, so a
+ * broken content type does not trip the others while an unreachable CDN trips all of them.
+ * <p>
+ * Each breaker keeps the outcomes of the last {@code windowSize} calls. Once at least
+ * {@code minimumCalls} were made, it opens when the share of failed calls (5xx or 429, I/O
+ * errors, timeouts) reaches {@code failureRateThreshold} or the share of calls slower than
+ * {@code slowCallDuration} reaches {@code slowCallRateThreshold}. While open, calls fail at once
+ * with {@link ContentstackCircuitOpenException}, which {@link ContentstackClientService} answers
+ * with the cached response for the key when there is one. After {@code waitDurationInOpen} a few
+ * trial calls are let through and decide whether the breaker closes again.
+ * <p>
+ * Transitions are counted as {@code contentstack.circuit.transitions} by kind and states, not
+ * by the request-supplied name, breakers by state as {@code contentstack.circuit.breakers}, and
+ * the health details and logs name every breaker that is not closed. Health stays {@code UP}: the instance keeps serving cached content while a breaker is
+ * open and should not be taken out of rotation for it.
+ */
+@Component
+public class ContentstackCircuitBreakers implements HealthIndicator {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentstackCircuitBreakers.class);
+
+    private static final String HOST = "host";
+    private static final String CONTENT_TYPE = "contentType";
+
+    private enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final ContentstackConfig.CircuitBreaker properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Breaker> hosts = new ConcurrentHashMap<>();
+    private final Cache<String, Breaker> contentTypes;
+
+    public ContentstackCircuitBreakers(ContentstackConfig config, MeterRegistry meterRegistry) {
+        this.properties = config.getCircuitBreaker();
+        this.meterRegistry = meterRegistry;
+        // Content type UIDs come from requests, so idle breakers must not accumulate
+        this.contentTypes = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxContentTypes())
+                .expireAfterAccess(Duration.ofHours(1))
+                .build();
+        for (String kind : new String[]{HOST, CONTENT_TYPE}) {
+            for (State state : State.values()) {
+                Gauge.builder("contentstack.circuit.breakers", this, breakers -> breakers.count(kind, state))
+                        .description("Circuit breakers for Contentstack calls by state")
+                        .tag("kind", kind)
+                        .tag("state", state.name())
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    /**
+     * Guards one upstream call to {@code host} for {@code contentTypeUid}.
+     */
+    public <T> Mono<T> protect(String host, String contentTypeUid, Mono<T> call) {
+        if (!properties.isEnabled()) {
+            return call;
+        }
+        return Mono.defer(() -> {
+            Trial trial = new Trial(host, contentTypeUid);
+            if (trial.rejection != null) {
+                return Mono.error(trial.rejection);
+            }
+            return call
+                    .doOnSuccess(value -> trial.succeeded())
+                    .doOnError(trial::failed)
+                    .doOnCancel(trial::cancelled);
+        });
+    }
+
+    public <T> Flux<T> protect(String host, String contentTypeUid, Flux<T> call) {
+        if (!properties.isEnabled()) {
+            return call;
+        }
+        return Flux.defer(() -> {
+            Trial trial = new Trial(host, contentTypeUid);
+            if (trial.rejection != null) {
+                return Flux.error(trial.rejection);
+            }
+            return call
+                    .doOnComplete(trial::succeeded)
+                    .doOnError(trial::failed)
+                    .doOnCancel(trial::cancelled);
+        });
+    }
+
+    private static ContentstackCircuitOpenException open(Breaker breaker) {
+        return new ContentstackCircuitOpenException(
+                "Circuit breaker open for " + breaker.kind + " " + breaker.name);
+    }
+
+    private int count(String kind, State state) {
+        Iterable<Breaker> breakers = HOST.equals(kind) ? hosts.values() : contentTypes.asMap().values();
+        int count = 0;
+        for (Breaker breaker : breakers) {
+            if (breaker.state() == state) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public Health health() {
+        Map<String, String> hostStates = new TreeMap<>();
+        hosts.values().forEach(breaker -> hostStates.put(breaker.name, breaker.state().name()));
+        Map<String, String> contentTypeStates = new TreeMap<>();
+        contentTypes.asMap().values().stream()
+                .filter(breaker -> breaker.state() != State.CLOSED)
+                .forEach(breaker -> contentTypeStates.put(breaker.name, breaker.state().name()));
+        return Health.up()
+                .withDetail("hosts", hostStates)
+                .withDetail("contentTypes", contentTypeStates)
+                .build();
+    }
+
+    /**
+     * One call through the host and content type breakers, recorded exactly once.
+     */
+    private final class Trial {
+
+        private final Breaker hostBreaker;
+        private final Breaker contentTypeBreaker;
+        private final ContentstackCircuitOpenException rejection;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Trial(String host, String contentTypeUid) {
+            hostBreaker = hosts.computeIfAbsent(host, name -> new Breaker(HOST, name));
+            contentTypeBreaker = contentTypes.get(contentTypeUid, name -> new Breaker(CONTENT_TYPE, name));
+            if (!hostBreaker.tryAcquire()) {
+                rejection = open(hostBreaker);
+                done.set(true);
+            } else if (!contentTypeBreaker.tryAcquire()) {
+                hostBreaker.release();
+                rejection = open(contentTypeBreaker);
+                done.set(true);
+            } else {
+                rejection = null;
+            }
+        }
+
+        void succeeded() {
+            record(false);
+        }
+
+        void failed(Throwable error) {
+            if (error instanceof ContentstackUnavailableException) {
+                // Shed by a bulkhead, so the CDN was never asked
+                cancelled();
+            } else {
+                record(UpstreamErrors.isTransient(error));
+            }
+        }
+
+        void cancelled() {
+            if (done.compareAndSet(false, true)) {
+                hostBreaker.release();
+                contentTypeBreaker.release();
+            }
+        }
+
+        private void record(boolean failed) {
+            if (done.compareAndSet(false, true)) {
+                boolean slow = System.nanoTime() - startNanos > properties.getSlowCallDuration().toNanos();
+                hostBreaker.record(failed, slow);
+                contentTypeBreaker.record(failed, slow);
+            }
+        }
+    }
+
+    /**
+     * Count-based sliding window breaker. State changes are short and made under its monitor.
+     */
+    private final class Breaker {
+
+        private final String kind;
+        private final String name;
+        private final boolean[] failures;
+        private final boolean[] slowCalls;
+        private int next;
+        private int calls;
+        private int failedCalls;
+        private int slowCallCount;
+        private State state = State.CLOSED;
+        private long openedAtNanos;
+        private int trialCallsStarted;
+        private int trialCallsFinished;
+
+        private Breaker(String kind, String name) {
+            this.kind = kind;
+            this.name = name;
+            this.failures = new boolean[properties.getWindowSize()];
+            this.slowCalls = new boolean[properties.getWindowSize()];
+        }
+
+        synchronized State state() {
+            return state;
+        }
+
+        synchronized boolean tryAcquire() {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAtNanos < properties.getWaitDurationInOpen().toNanos()) {
+                    return false;
+                }
+                transition(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (trialCallsStarted >= properties.getPermittedCallsInHalfOpen()) {
+                    return false;
+                }
+                trialCallsStarted++;
+            }
+            return true;
+        }
+
+        /**
+         * Gives back a permit for a call whose outcome says nothing about the CDN.
+         */
+        synchronized void release() {
+            if (state == State.HALF_OPEN && trialCallsStarted > trialCallsFinished) {
+                trialCallsStarted--;
+            }
+        }
+
+        synchronized void record(boolean failed, boolean slow) {
+            if (state == State.OPEN) {
+                return;
+            }
+            if (calls == failures.length) {
+                failedCalls -= failures[next] ? 1 : 0;
+                slowCallCount -= slowCalls[next] ? 1 : 0;
+            } else {
+                calls++;
+            }
+            failures[next] = failed;
+            slowCalls[next] = slow;
+            failedCalls += failed ? 1 : 0;
+            slowCallCount += slow ? 1 : 0;
+            next = (next + 1) % failures.length;
+
+            if (state == State.HALF_OPEN) {
+                trialCallsFinished++;
+                if (failed || slow) {
+                    transition(State.OPEN);
+                } else if (trialCallsFinished >= properties.getPermittedCallsInHalfOpen()) {
+                    transition(State.CLOSED);
+                }
+            } else if (calls >= properties.getMinimumCalls()
+                    && (failedCalls * 100 >= properties.getFailureRateThreshold() * calls
+                    || slowCallCount * 100 >= properties.getSlowCallRateThreshold() * calls)) {
+                transition(State.OPEN);
+            }
+        }
+
+        private void transition(State to) {
+            State from = state;
+            state = to;
+            if (to == State.OPEN) {
+                openedAtNanos = System.nanoTime();
+            }
+            if (to != State.HALF_OPEN) {
+                // Judge the next period on its own calls only
+                next = 0;
+                calls = 0;
+                failedCalls = 0;
+                slowCallCount = 0;
+            }
+            trialCallsStarted = 0;
+            trialCallsFinished = 0;
+            meterRegistry.counter("contentstack.circuit.transitions",
+                            "kind", kind, "from", from.name(), "to", to.name())
+                    .increment();
+            if (to == State.OPEN) {
+                log.warn("Circuit breaker for {} {} opened", kind, name);
+            } else {
+                log.info("Circuit breaker for {} {} is {}", kind, name, to);
+            }
+        }
+    }
+}
@@ -1,266 +1,108 @@
 package com.contentstack.webflux.service;
 
+import com.contentstack.webflux.cache.CacheKey;
+import com.contentstack.webflux.cache.CachedResponse;
+import com.contentstack.webflux.cache.ContentstackResponseCache;
+import com.contentstack.webflux.cache.RequestCoalescer;
 import com.contentstack.webflux.config.ContentstackConfig;
 import com.contentstack.webflux.dto.ContentstackPageResponse;
 import com.contentstack.webflux.dto.PersonalizeConfigResponse;
 import com.contentstack.webflux.dto.WebConfigResponse;
 import com.contentstack.webflux.dto.NavigationResponse;
 import com.contentstack.webflux.dto.FeatureFlagConfigResponse;
+import com.contentstack.webflux.dto.FeatureFlags;
+import com.contentstack.webflux.exception.ContentstackCircuitOpenException;
+import com.contentstack.webflux.exception.ContentstackUnavailableException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.Map;
-import java.util.Objects;
+import java.net.URI;
 
 @Service
 public class ContentstackClientService {
 
     private static final Logger log = LoggerFactory.getLogger(ContentstackClientService.class);
 
-    private final ContentstackConfig config;
-    private final WebClient.Builder webClientBuilder;
-
-    public ContentstackClientService(ContentstackConfig config, WebClient.Builder webClientBuilder) {
-        this.config = config;
-        this.webClientBuilder = webClientBuilder;
-    }
-
-    private WebClient getWebClient() {
-        final String baseUrl = Objects.requireNonNullElse(
-                (config.getApi() != null ? config.getApi().getBaseUrl() : null),
-                "https://api.contentstack.io/v3");
-        final String apiKey = Objects.requireNonNullElse(config.getApiKey(), "");
-        final String deliveryToken = Objects.requireNonNullElse(config.getDeliveryToken(), "");
-
-        return webClientBuilder
-                .baseUrl(baseUrl)
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .defaultHeader("api_key", apiKey)
-                .defaultHeader("access_token", deliveryToken)
-                .build();
+    private static final FetchSpec<WebConfigResponse.Entry, WebConfigResponse.Entry> WEB_CONFIG =
+            FetchSpec.of(ContentstackEndpoint.WEB_CONFIG, "fetchWebConfig", WebConfigResponse.Entry.class);
+    private static final FetchSpec<FeatureFlagConfigResponse.Entry, FeatureFlags> FEATURE_FLAG_CONFIG =
+            FetchSpec.of(ContentstackEndpoint.FEATURE_FLAG_CONFIG, "fetchFeatureFlagConfig", FeatureFlagConfigResponse.Entry.class)
+                    .map(ContentstackClientService::compileFeatureFlags);
+    private static final FetchSpec<NavigationResponse.Entry, NavigationResponse.Entry> NAVIGATION_CONFIG =
+            FetchSpec.of(ContentstackEndpoint.NAVIGATION_CONFIG, "fetchNavigationConfig", NavigationResponse.Entry.class);
+    private static final FetchSpec<PersonalizeConfigResponse.Entry, PersonalizeConfigResponse.Entry> PERSONALIZED_CONFIG =
+            FetchSpec.of(ContentstackEndpoint.PERSONALIZED_CONFIG, "fetchPersonalizedConfig", PersonalizeConfigResponse.Entry.class);
+    private static final FetchSpec<ContentstackPageResponse.Entry, ContentstackPageResponse.Entry> ENTRIES =
+            FetchSpec.of(ContentstackEndpoint.ENTRIES, "fetchEntries", ContentstackPageResponse.Entry.class);
+    private static final String PASSTHROUGH_METHOD = "fetchEntriesPassthrough";
+
+    private final ContentstackUriTemplates uriTemplates;
+    private final WebClient webClient;
+    private final ContentstackResponseCache responseCache;
+    private final RequestCoalescer requestCoalescer;
+    private final FirstEntryDecoder firstEntryDecoder;
+    private final ContentstackMetrics metrics;
+    private final ContentstackBulkheads bulkheads;
+    private final UpstreamCallPolicy callPolicy;
+    private final ContentstackCircuitBreakers circuitBreakers;
+
+    public ContentstackClientService(ContentstackUriTemplates uriTemplates,
+                                     WebClient contentstackWebClient,
+                                     ContentstackResponseCache responseCache,
+                                     RequestCoalescer requestCoalescer,
+                                     FirstEntryDecoder firstEntryDecoder,
+                                     ContentstackMetrics metrics,
+                                     ContentstackBulkheads bulkheads,
+                                     UpstreamCallPolicy callPolicy,
+                                     ContentstackCircuitBreakers circuitBreakers) {
+        this.uriTemplates = uriTemplates;
+        this.webClient = contentstackWebClient;
+        this.responseCache = responseCache;
+        this.requestCoalescer = requestCoalescer;
+        this.firstEntryDecoder = firstEntryDecoder;
+        this.metrics = metrics;
+        this.bulkheads = bulkheads;
+        this.callPolicy = callPolicy;
+        this.circuitBreakers = circuitBreakers;
     }
 
     public Mono<WebConfigResponse.Entry> fetchWebConfig(
             String contentTypeUid,
             String locale,
             String variant) {
-
-        log.info("Fetching entries for content type: {}, locale: {}, variant: {}",
-                contentTypeUid, locale, variant);
-
-        final String baseUrl = Objects.requireNonNullElse(
-                (config.getApi() != null ? config.getApi().getBaseUrl() : null),
-                "https://api.contentstack.io/v3");
-        final String environment = Objects.requireNonNullElse(config.getEnvironment(), "production");
-        log.info("Environment: {}", environment);
-        log.info("Base URL: {}", baseUrl);
-        UriComponentsBuilder uriBuilder = UriComponentsBuilder
-                .fromUriString(baseUrl)
-                .path("/content_types/{contentTypeUid}/entries");
-
-        // Add environment
-        uriBuilder.queryParam("environment", environment);
-
-        // Add locale if provided
-        if (locale != null && !locale.isEmpty()) {
-            uriBuilder.queryParam("locale", locale);
-        }
-
-        // Add include parameters - Contentstack expects include[]=value format
-        for (String include : ContentstackIncludes.WEB_CONFIG_REFERENCE_INCLUDES) {
-            uriBuilder.queryParam("include[]", include);
-        }
-
-        String uri = uriBuilder.buildAndExpand(contentTypeUid).toUriString();
-        log.debug("Request URI: {}", uri);
-
-        return getWebClient()
-                .get()
-                .uri(uri)
-                .retrieve()
-                .bodyToMono(WebConfigResponse.class)
-                .flatMap(response -> {
-                    if (response == null || response.getEntries() == null || response.getEntries().isEmpty()) {
-                        log.warn("No entries found in response");
-                        return Mono.error(new RuntimeException("No entries found in response"));
-                    }
-
-                    WebConfigResponse.Entry firstEntry = response.getEntries().get(0);
-                    log.info("Found {} entries, using first entry", response.getEntries().size());
-                    log.info("Successfully extracted web config entry");
-                    return Mono.just(firstEntry);
-                })
-                .doOnSuccess(response -> log.info("Successfully fetched web config"))
-                .doOnError(error -> log.error("Error fetching web config: {}", error.getMessage(), error));
+        return fetch(WEB_CONFIG, contentTypeUid, locale, variant);
     }
 
-    public Mono<Map<String, Object>> fetchFeatureFlagConfig(
+    /**
+     * Fetch the feature flag configuration, compiled into an immutable {@link FeatureFlags}
+     * snapshot once per download and cached as such.
+     */
+    public Mono<FeatureFlags> fetchFeatureFlagConfig(
             String contentTypeUid,
             String locale,
             String variant) {
-
-        log.info("Fetching entries for content type: {}, locale: {}, variant: {}",
-                contentTypeUid, locale, variant);
-
-        final String baseUrl = Objects.requireNonNullElse(
-                (config.getApi() != null ? config.getApi().getBaseUrl() : null),
-                "https://api.contentstack.io/v3");
-        final String environment = Objects.requireNonNullElse(config.getEnvironment(), "production");
-        log.info("Environment: {}", environment);
-        log.info("Base URL: {}", baseUrl);
-        UriComponentsBuilder uriBuilder = UriComponentsBuilder
-                .fromUriString(baseUrl)
-                .path("/content_types/{contentTypeUid}/entries");
-
-        // Add environment
-        uriBuilder.queryParam("environment", environment);
-
-        // Add locale if provided
-        if (locale != null && !locale.isEmpty()) {
-            uriBuilder.queryParam("locale", locale);
-        }
-
-        String uri = uriBuilder.buildAndExpand(contentTypeUid).toUriString();
-        log.debug("Request URI: {}", uri);
-
-        return getWebClient()
-                .get()
-                .uri(uri)
-                .retrieve()
-                .bodyToMono(FeatureFlagConfigResponse.class)
-                .flatMap(response -> {
-                    if (response == null || response.getEntries() == null || response.getEntries().isEmpty()) {
-                        log.warn("No entries found in response");
-                        return Mono.error(new RuntimeException("No entries found in response"));
-                    }
-
-                    FeatureFlagConfigResponse.Entry firstEntry = response.getEntries().get(0);
-                    log.info("Found {} entries, using first entry", response.getEntries().size());
-                    
-                    // Debug: Log what configs we have
-                    log.debug("boolean_config size: {}", firstEntry.getBoolean_config() != null ? firstEntry.getBoolean_config().size() : 0);
-                    log.debug("numbers_config size: {}", firstEntry.getNumbers_config() != null ? firstEntry.getNumbers_config().size() : 0);
-                    log.debug("strings_configs size: {}", firstEntry.getStrings_configs() != null ? firstEntry.getStrings_configs().size() : 0);
-                    log.debug("string_lists size: {}", firstEntry.getString_lists() != null ? firstEntry.getString_lists().size() : 0);
-                    
-                    // Get the merged config map
-                    Map<String, Object> mergedConfig = firstEntry.getMergedConfig();
-                    log.info("Successfully extracted merged config with {} keys: {}", mergedConfig.size(), mergedConfig.keySet());
-                    
-                    if (mergedConfig.isEmpty()) {
-                        log.warn("Merged config is empty - no configuration values found in any config lists");
-                    }
-                    
-                    return Mono.just(mergedConfig);
-                })
-                .doOnSuccess(response -> log.info("Successfully fetched feature flag config"))
-                .doOnError(error -> log.error("Error fetching feature flag config: {}", error.getMessage(), error));
+        return fetch(FEATURE_FLAG_CONFIG, contentTypeUid, locale, variant);
     }
 
     public Mono<NavigationResponse.Entry> fetchNavigationConfig(
             String contentTypeUid,
             String locale,
             String variant) {
-
-        log.info("Fetching navigation config for content type: {}, locale: {}, variant: {}",
-                contentTypeUid, locale, variant);
-
-        final String baseUrl = Objects.requireNonNullElse(
-                (config.getApi() != null ? config.getApi().getBaseUrl() : null),
-                "https://api.contentstack.io/v3");
-        final String environment = Objects.requireNonNullElse(config.getEnvironment(), "production");
-        log.info("Environment: {}", environment);
-        log.info("Base URL: {}", baseUrl);
-        UriComponentsBuilder uriBuilder = UriComponentsBuilder
-                .fromUriString(baseUrl)
-                .path("/content_types/{contentTypeUid}/entries");
-
-        // Add environment
-        uriBuilder.queryParam("environment", environment);
-
-        // Add locale if provided
-        if (locale != null && !locale.isEmpty()) {
-            uriBuilder.queryParam("locale", locale);
-        }
-
-        // Add include parameters - Contentstack expects include[]=value format
-        for (String include : ContentstackIncludes.NAVIGATION_CONFIG_REFERENCE_INCLUDES) {
-            uriBuilder.queryParam("include[]", include);
-        }
-
-        String uri = uriBuilder.buildAndExpand(contentTypeUid).toUriString();
-        log.debug("Request URI: {}", uri);
-
-        return getWebClient()
-                .get()
-                .uri(uri)
-                .retrieve()
-                .bodyToMono(NavigationResponse.class)
-                .flatMap(response -> {
-                    if (response == null || response.getEntries() == null || response.getEntries().isEmpty()) {
-                        log.warn("No entries found in response");
-                        return Mono.error(new RuntimeException("No entries found in response"));
-                    }
-
-                    NavigationResponse.Entry firstEntry = response.getEntries().get(0);
-                    log.info("Found {} entries, using first entry", response.getEntries().size());
-                    log.info("Successfully extracted navigation config entry");
-                    return Mono.just(firstEntry);
-                })
-                .doOnSuccess(response -> log.info("Successfully fetched navigation config"))
-                .doOnError(error -> log.error("Error fetching navigation config: {}", error.getMessage(), error));
+        return fetch(NAVIGATION_CONFIG, contentTypeUid, locale, variant);
     }
 
-
     public Mono<PersonalizeConfigResponse.Entry> fetchPersonalizedConfig(
             String contentTypeUid,
             String locale,
             String variant) {
-
-
-        final String baseUrl = Objects.requireNonNullElse(
-                (config.getApi() != null ? config.getApi().getBaseUrl() : null),
-                "https://api.contentstack.io/v3");
-        final String environment = Objects.requireNonNullElse(config.getEnvironment(), "production");
-        UriComponentsBuilder uriBuilder = UriComponentsBuilder
-                .fromUriString(baseUrl)
-                .path("/content_types/{contentTypeUid}/entries");
-
-        // Add environment
-        uriBuilder.queryParam("environment", environment);
-
-        // Add locale if provided
-        if (locale != null && !locale.isEmpty()) {
-            uriBuilder.queryParam("locale", locale);
-        }
-
-        String uri = uriBuilder.buildAndExpand(contentTypeUid).toUriString();
-        log.debug("Request URI: {}", uri);
-
-        return getWebClient()
-                .get()
-                .uri(uri)
-                .retrieve()
-                .bodyToMono(PersonalizeConfigResponse.class)
-                .flatMap(response -> {
-                    if (response == null || response.getEntries() == null || response.getEntries().isEmpty()) {
-                        log.warn("No entries found in response");
-                        return Mono.error(new RuntimeException("No entries found in response"));
-                    }
-
-                    PersonalizeConfigResponse.Entry firstEntry = response.getEntries().get(0);
-                    log.info("Found {} entries, using first entry", response.getEntries().size());
-                    log.info("Successfully extracted personalized config entry");
-                    return Mono.just(firstEntry);
-                })
-                .doOnSuccess(response -> log.info("Successfully fetched personalized config"))
-                .doOnError(error -> log.error("Error fetching personalized config: {}", error.getMessage(), error));
+        return fetch(PERSONALIZED_CONFIG, contentTypeUid, locale, variant);
     }
 
     /**
@@ -269,64 +111,266 @@ public class ContentstackClientService {
      * @param contentTypeUid Content type UID
      * @param locale         Locale code (e.g., "en-us")
      * @param variant        Variant name
-     * @param include        Fields to include
      */
     public Mono<ContentstackPageResponse.Entry> fetchEntries(
             String contentTypeUid,
             String locale,
             String variant) {
+        return fetch(ENTRIES, contentTypeUid, locale, variant);
+    }
 
-        log.info("Fetching entries for content type: {}, locale: {}, variant: {}",
+    /**
+     * Fetch through the method matching {@code endpoint}, for callers such as cache warm-up and
+     * webhook pre-warming that only know the endpoint of what they fetch.
+     */
+    public Mono<?> fetch(ContentstackEndpoint endpoint, String contentTypeUid, String locale, String variant) {
+        return switch (endpoint) {
+            case WEB_CONFIG -> fetchWebConfig(contentTypeUid, locale, variant);
+            case FEATURE_FLAG_CONFIG -> fetchFeatureFlagConfig(contentTypeUid, locale, variant);
+            case NAVIGATION_CONFIG -> fetchNavigationConfig(contentTypeUid, locale, variant);
+            case PERSONALIZED_CONFIG -> fetchPersonalizedConfig(contentTypeUid, locale, variant);
+            case ENTRIES -> fetchEntries(contentTypeUid, locale, variant);
+        };
+    }
+
+    /**
+     * Fetch the raw JSON of the first page entry, for consumers that forward it unchanged.
+     * <p>
+     * The entry is cut out of the CDN response by {@link FirstEntryDecoder#extract(Flux)} and the
+     * resulting buffer slices are streamed as they arrive, so nothing is bound to
+     * {@link ContentstackPageResponse.Entry} or re-encoded. The response cache and request
+     * coalescing apply only to {@link #fetchEntries}, since streamed buffers can be neither
+     * retained nor shared between subscribers. The call is recorded in {@link ContentstackMetrics}
+     * under {@value #PASSTHROUGH_METHOD} and timed until the entry has been streamed.
+     */
+    public Flux<DataBuffer> fetchEntriesPassthrough(
+            String contentTypeUid,
+            String locale,
+            String variant) {
+
+        log.debug("Fetching raw entry for content type: {}, locale: {}, variant: {}",
                 contentTypeUid, locale, variant);
 
-        final String baseUrl = Objects.requireNonNullElse(
-                (config.getApi() != null ? config.getApi().getBaseUrl() : null),
-                "https://api.contentstack.io/v3");
-        final String environment = Objects.requireNonNullElse(config.getEnvironment(), "production");
-        log.info("Environment: {}", environment);
-        log.info("Base URL: {}", baseUrl);
-        UriComponentsBuilder uriBuilder = UriComponentsBuilder
-                .fromUriString(baseUrl)
-                .path("/content_types/{contentTypeUid}/entries");
+        String uri = uriTemplates.expand(ContentstackEndpoint.ENTRIES, contentTypeUid, locale, variant);
+        log.debug("Request URI: {}", uri);
 
-        // Add environment
-        uriBuilder.queryParam("environment", environment);
+        URI requestUri = URI.create(uri);
+        Flux<DataBuffer> call = bulkheads.limit(ContentstackEndpoint.ENTRIES, Flux.deferContextual(context -> {
+            long startNanos = System.nanoTime();
+            ContentstackMetrics.UpstreamCall upstreamCall = metrics.startUpstreamCall(PASSTHROUGH_METHOD, contentTypeUid, locale);
+            return webClient
+                    .get()
+                    .uri(requestUri)
+                    .retrieve()
+                    .toEntityFlux(DataBuffer.class)
+                    .flatMapMany(response -> {
+                        upstreamCall.status(response.getStatusCode());
+                        return firstEntryDecoder.extract(response.getBody());
+                    })
+                    .doOnComplete(upstreamCall::success)
+                    .doOnError(upstreamCall::error)
+                    .doOnCancel(upstreamCall::cancel)
+                    .doOnTerminate(() -> RequestTrace.upstreamCall(context, System.nanoTime() - startNanos))
+                    .doOnCancel(() -> RequestTrace.upstreamCall(context, System.nanoTime() - startNanos));
+        }));
+        return circuitBreakers.protect(requestUri.getHost(), contentTypeUid, call)
+                .doOnError(error -> logFetchError("raw entry", contentTypeUid, error));
+    }
 
-        // Add locale if provided
-        if (locale != null && !locale.isEmpty()) {
-            uriBuilder.queryParam("locale", locale);
-        }
+    /**
+     * The fetch pipeline shared by all typed fetches: expands the endpoint's URI template, serves
+     * the response from the cache or coalesces the miss into one upstream call, which decodes
+     * {@code entries[0]} to {@link FetchSpec#entryType()} and maps it through
+     * {@link FetchSpec#postProcessor()}.
+     */
+    private <E, T> Mono<T> fetch(FetchSpec<E, T> spec, String contentTypeUid, String locale, String variant) {
+        log.debug("Fetching {} for content type: {}, locale: {}, variant: {}",
+                spec.endpoint(), contentTypeUid, locale, variant);
+
+        String uri = uriTemplates.expand(spec.endpoint(), contentTypeUid, locale, variant);
+        ConditionalRequest conditional = new ConditionalRequest();
+        Mono<T> fetch = fetchFirstEntry(spec, uri, contentTypeUid, locale, conditional)
+                .<T>map(spec.postProcessor());
+
+        // Logged after the cache fallbacks, so a failure answered from the cache is not an error
+        return cached(new CacheKey(spec.endpoint(), contentTypeUid, locale, variant, uri), conditional, fetch)
+                .doOnError(error -> logFetchError(spec.endpoint(), contentTypeUid, error));
+    }
 
-        // Add variant if provided
-        if (variant != null && !variant.isEmpty() && !variant.equals("{}")) {
-            uriBuilder.queryParam("variant", variant);
-        }
+    /**
+     * Requests {@code uri} and decodes {@code entries[0]} of the response, recording the call in
+     * {@link ContentstackMetrics} under {@link FetchSpec#method()}. The request is conditional when
+     * {@code conditional} was prepared to revalidate a cached response, and a 304 completes empty
+     * without decoding anything. Each attempt must pass the circuit breakers for the CDN host and
+     * content type and the endpoint's bulkhead, and fails fast otherwise; transient failures are
+     * retried and slow calls optionally hedged by {@link UpstreamCallPolicy}.
+     */
+    private <E> Mono<E> fetchFirstEntry(FetchSpec<E, ?> spec, String uri, String contentTypeUid, String locale,
+                                        ConditionalRequest conditional) {
+        ContentstackEndpoint endpoint = spec.endpoint();
+        URI requestUri = URI.create(uri);
+        Mono<E> attempt = bulkheads.limit(endpoint, Mono.deferContextual(context -> {
+            long startNanos = System.nanoTime();
+            ContentstackMetrics.UpstreamCall upstreamCall = metrics.startUpstreamCall(spec.method(), contentTypeUid, locale);
+            return webClient
+                    .get()
+                    .uri(requestUri)
+                    .headers(conditional::applyTo)
+                    .retrieve()
+                    .toEntityFlux(DataBuffer.class)
+                    .flatMap(response -> {
+                        upstreamCall.status(response.getStatusCode());
+                        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                            conditional.notModified();
+                            return response.getBody().doOnNext(DataBufferUtils::release).then(Mono.<E>empty());
+                        }
+                        conditional.received(response.getHeaders());
+                        return firstEntryDecoder.decode(response.getBody(), spec.entryType(), upstreamCall);
+                    })
+                    .doOnSuccess(entry -> upstreamCall.success())
+                    .doOnError(upstreamCall::error)
+                    .doOnCancel(upstreamCall::cancel)
+                    // Before the value moves on, so the request log line already includes the call
+                    .doOnTerminate(() -> RequestTrace.upstreamCall(context, System.nanoTime() - startNanos))
+                    .doOnCancel(() -> RequestTrace.upstreamCall(context, System.nanoTime() - startNanos));
+        }));
+        return callPolicy.apply(endpoint,
+                circuitBreakers.protect(requestUri.getHost(), contentTypeUid, attempt)).switchIfEmpty(Mono.defer(() -> {
+            if (conditional.isNotModified()) {
+                return Mono.empty();
+            }
+            log.warn("No entries found in response");
+            return Mono.error(new RuntimeException("No entries found in response"));
+        }));
+    }
 
-        // Add include parameters - Contentstack expects include[]=value format
-        for (String include : ContentstackIncludes.WEB_LANDING_PAGE_REFERENCE_INCLUDES) {
-            uriBuilder.queryParam("include[]", include);
-        }
+    /**
+     * Serves the response from {@link ContentstackResponseCache} when present and populates it
+     * from {@code fetch} otherwise. The fetch itself is lazy, so a hit never touches the network,
+     * and concurrent misses for the same URI are coalesced into a single upstream request.
+     * <p>
+     * For endpoints allowed to serve stale content, an expired entry within its hard TTL is
+     * returned immediately while a background refresh repopulates it, and an entry within its
+     * stale-if-error window is returned when the upstream fetch fails. While a circuit breaker is
+     * open, any cached entry is returned regardless of its age or endpoint. Entries invalidated by
+     * a publish webhook are only ever used for these fallbacks.
+     * <p>
+     * Expired responses that came with CDN validators are refreshed with a conditional request,
+     * see {@link #refresh(CacheKey, CachedResponse, ConditionalRequest, Mono, RequestTrace.Fetch)}.
+     * The outcome is recorded in the {@link RequestTrace} of sampled requests.
+     */
+    private <T> Mono<T> cached(CacheKey cacheKey, ConditionalRequest conditional, Mono<T> fetch) {
+        return Mono.deferContextual(context -> {
+            RequestTrace.Fetch trace = RequestTrace.fetch(context, cacheKey);
+            if (!responseCache.isEnabled()) {
+                trace.outcome(RequestTrace.CacheOutcome.BYPASS);
+                return requestCoalescer.execute(cacheKey, () -> fetch);
+            }
+            ContentstackConfig.Cache cacheConfig = responseCache.getProperties();
+            String contentTypeUid = cacheKey.contentTypeUid();
+            CachedResponse cachedResponse = responseCache.get(cacheKey);
+            Mono<T> refresh = requestCoalescer.execute(cacheKey,
+                    () -> refresh(cacheKey, cachedResponse, conditional, fetch, trace));
+            if (cachedResponse == null) {
+                trace.outcome(RequestTrace.CacheOutcome.MISS);
+                return refresh;
+            }
+            if (!cachedResponse.invalidated() && cachedResponse.isYoungerThan(cacheConfig.ttlFor(contentTypeUid))) {
+                log.debug("Cache hit for {}", cacheKey.uri());
+                trace.outcome(RequestTrace.CacheOutcome.HIT);
+                return Mono.just(cachedValue(cachedResponse));
+            }
+            if (!cacheConfig.getStaleEndpoints().contains(cacheKey.endpoint())) {
+                trace.outcome(RequestTrace.CacheOutcome.REFRESH);
+                return refresh.onErrorResume(ContentstackCircuitOpenException.class,
+                        error -> lastKnownGood(cacheKey, cachedResponse, error, trace));
+            }
+            if (!cachedResponse.invalidated() && cachedResponse.isYoungerThan(cacheConfig.hardTtlFor(contentTypeUid))) {
+                log.debug("Serving stale entry for {} while revalidating", cacheKey.uri());
+                trace.outcome(RequestTrace.CacheOutcome.STALE);
+                refresh.subscribe(
+                        value -> { },
+                        error -> {
+                            if (error instanceof ContentstackUnavailableException) {
+                                log.debug("Background refresh of {} skipped: {}", cacheKey.uri(), error.getMessage());
+                            } else {
+                                log.warn("Background refresh failed for {}: {}", cacheKey.uri(), error.getMessage());
+                            }
+                        });
+                return Mono.just(cachedValue(cachedResponse));
+            }
+            trace.outcome(RequestTrace.CacheOutcome.REFRESH);
+            return refresh.onErrorResume(error -> {
+                if (!(error instanceof ContentstackCircuitOpenException)
+                        && !cachedResponse.isYoungerThan(cacheConfig.staleIfErrorFor(contentTypeUid))) {
+                    return Mono.error(error);
+                }
+                return lastKnownGood(cacheKey, cachedResponse, error, trace);
+            });
+        });
+    }
 
-        String uri = uriBuilder.buildAndExpand(contentTypeUid).toUriString();
-        log.debug("Request URI: {}", uri);
+    /**
+     * Answers a failed fetch with the cached entry. This happens for every request to an endpoint
+     * while its circuit is open, so it is counted rather than logged above debug.
+     */
+    private <T> Mono<T> lastKnownGood(CacheKey cacheKey, CachedResponse cachedResponse, Throwable error,
+                                      RequestTrace.Fetch trace) {
+        log.debug("Serving last-known-good entry for {} after fetch error: {}", cacheKey.uri(), error.getMessage());
+        metrics.servedLastKnownGood(cacheKey.endpoint());
+        trace.outcome(RequestTrace.CacheOutcome.LAST_KNOWN_GOOD);
+        return Mono.just(cachedValue(cachedResponse));
+    }
 
-        return getWebClient()
-                .get()
-                .uri(uri)
-                .retrieve()
-                .bodyToMono(ContentstackPageResponse.class)
-                .flatMap(response -> {
-                    if (response == null || response.getEntries() == null || response.getEntries().isEmpty()) {
-                        log.warn("No entries found in response");
-                        return Mono.error(new RuntimeException("No entries found in response"));
-                    }
+    /**
+     * Fetches and caches the response. When {@code cachedResponse} carries CDN validators the
+     * request is conditional, and a 304 reuses the cached object and restarts its TTL instead of
+     * downloading and decoding the payload again.
+     */
+    private <T> Mono<T> refresh(CacheKey cacheKey, CachedResponse cachedResponse,
+                                ConditionalRequest conditional, Mono<T> fetch, RequestTrace.Fetch trace) {
+        return Mono.defer(() -> {
+            boolean revalidating = conditional.revalidate(cachedResponse);
+            return fetch
+                    .doOnNext(value -> {
+                        responseCache.put(cacheKey, value, conditional.eTag(), conditional.lastModified());
+                        if (revalidating) {
+                            metrics.revalidated(cacheKey.endpoint(), false);
+                        }
+                    })
+                    // Only a 304 completes the fetch without a value
+                    .switchIfEmpty(Mono.fromSupplier(() -> {
+                        log.debug("Not modified upstream, renewing {}", cacheKey.uri());
+                        responseCache.renew(cacheKey, cachedResponse);
+                        trace.outcome(RequestTrace.CacheOutcome.REVALIDATED);
+                        metrics.revalidated(cacheKey.endpoint(), true);
+                        return cachedValue(cachedResponse);
+                    }));
+        });
+    }
+
+    /**
+     * Calls refused by a bulkhead or an open breaker are counted by their meters and only logged at
+     * debug level, since they come in bulk exactly when the CDN or this service is struggling.
+     */
+    private static void logFetchError(Object what, String contentTypeUid, Throwable error) {
+        if (error instanceof ContentstackUnavailableException) {
+            log.debug("Refused fetching {} for content type: {}: {}", what, contentTypeUid, error.getMessage());
+        } else {
+            log.error("Error fetching {} for content type: {}: {}", what, contentTypeUid, error.getMessage(), error);
+        }
+    }
+
+    private static FeatureFlags compileFeatureFlags(FeatureFlagConfigResponse.Entry entry) {
+        FeatureFlags flags = FeatureFlags.compile(entry);
+        if (flags.isEmpty()) {
+            log.warn("Merged config is empty - no configuration values found in any config lists");
+        }
+        return flags;
+    }
 
-                    ContentstackPageResponse.Entry firstEntry = response.getEntries().get(0);
-                    log.info("Found {} entries, using first entry", response.getEntries().size());
-                    log.info("Successfully extracted page entry");
-                    return Mono.just(firstEntry);
-                })
-                .doOnSuccess(response -> log.info("Successfully fetched entries for content type: {}", contentTypeUid))
-                .doOnError(error -> log.error("Error fetching entries for content type: {}: {}", contentTypeUid, error.getMessage(), error));
+    @SuppressWarnings("unchecked")
+    private static <T> T cachedValue(CachedResponse cachedResponse) {
+        return (T) cachedResponse.value();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,13 @@
+package com.contentstack.webflux.service;
+
+/**
+ * The kinds of Contentstack fetches performed by {@link ContentstackClientService}.
+ * Used to tag cache keys and anything else that needs to tell the endpoints apart.
+ */
+public enum ContentstackEndpoint {
+    WEB_CONFIG,
+    FEATURE_FLAG_CONFIG,
+    NAVIGATION_CONFIG,
+    PERSONALIZED_CONFIG,
+    ENTRIES
+}
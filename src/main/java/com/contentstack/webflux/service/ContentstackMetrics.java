@@ -0,0 +1,207 @@
+package com.contentstack.webflux.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters for upstream Contentstack calls made by {@link ContentstackClientService}.
+ * <ul>
+ *     <li>{@value #UPSTREAM_REQUESTS}: from sending the request to the decoded entry, tagged by
+ *     service method, content type, locale, HTTP status and outcome</li>
+ *     <li>{@value #DECODE}: time spent binding the entry, excluding network time</li>
+ *     <li>{@value #PAYLOAD_SIZE}: size of the response body in bytes</li>
+ *     <li>{@value #REVALIDATIONS}: conditional refreshes of cached responses by endpoint, with
+ *     {@code result=not_modified} for those answered by a 304</li>
+ *     <li>{@value #LAST_KNOWN_GOOD}: failed fetches answered with the cached entry, by endpoint</li>
+ *     <li>{@value #RETRIES}, {@value #HEDGES} and {@value #HEDGES_WON}: retried and hedged
+ *     calls by endpoint</li>
+ * </ul>
+ * The first three publish percentile histograms, so a latency regression can be attributed to the
+ * CDN, to JSON binding or to payload growth. Cache hits never reach the upstream and are not
+ * recorded here; they show up in {@code http.server.requests} and the cache metrics.
+ * <p>
+ * Content type UIDs and locales come from the request, so {@link #tagValueLimit(int)} caps the
+ * distinct values of those tags to keep the number of histograms bounded.
+ */
+@Component
+public class ContentstackMetrics {
+
+    public static final String UPSTREAM_REQUESTS = "contentstack.upstream.requests";
+    public static final String DECODE = "contentstack.decode";
+    public static final String PAYLOAD_SIZE = "contentstack.payload.size";
+    public static final String REVALIDATIONS = "contentstack.cache.revalidations";
+    public static final String LAST_KNOWN_GOOD = "contentstack.cache.last_known_good";
+    public static final String RETRIES = "contentstack.upstream.retries";
+    public static final String HEDGES = "contentstack.upstream.hedges";
+    public static final String HEDGES_WON = "contentstack.upstream.hedges.won";
+
+    static final String OTHER_VALUE = "other";
+
+    private static final String NO_VALUE = "none";
+    private static final String METER_PREFIX = "contentstack.";
+    private static final List<String> REQUEST_TAGS = List.of("contentTypeUid", "locale");
+
+    private final MeterRegistry meterRegistry;
+
+    public ContentstackMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Starts timing one upstream call. The returned recorder is stateful and belongs to that call.
+     */
+    public UpstreamCall startUpstreamCall(String method, String contentTypeUid, String locale) {
+        Tags tags = Tags.of(
+                "method", method,
+                "contentTypeUid", valueOrNone(contentTypeUid),
+                "locale", valueOrNone(locale));
+        return new UpstreamCall(tags, Timer.start(meterRegistry));
+    }
+
+    /**
+     * Counts one conditional refresh; the revalidation hit ratio is the share answered with 304.
+     */
+    public void revalidated(ContentstackEndpoint endpoint, boolean notModified) {
+        meterRegistry.counter(REVALIDATIONS,
+                        "endpoint", endpoint.name(),
+                        "result", notModified ? "not_modified" : "modified")
+                .increment();
+    }
+
+    public void servedLastKnownGood(ContentstackEndpoint endpoint) {
+        meterRegistry.counter(LAST_KNOWN_GOOD, "endpoint", endpoint.name()).increment();
+    }
+
+    public void retried(ContentstackEndpoint endpoint) {
+        meterRegistry.counter(RETRIES, "endpoint", endpoint.name()).increment();
+    }
+
+    public void hedged(ContentstackEndpoint endpoint) {
+        meterRegistry.counter(HEDGES, "endpoint", endpoint.name()).increment();
+    }
+
+    /**
+     * Counts a hedge that answered before the request it was hedging.
+     */
+    public void hedgeWon(ContentstackEndpoint endpoint) {
+        meterRegistry.counter(HEDGES_WON, "endpoint", endpoint.name()).increment();
+    }
+
+    /**
+     * Tags Contentstack meters with the first {@code maxValues} distinct values seen for each
+     * request-supplied tag, and with {@value #OTHER_VALUE} beyond that.
+     */
+    public static MeterFilter tagValueLimit(int maxValues) {
+        Map<String, Set<String>> seen = new ConcurrentHashMap<>();
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                if (!id.getName().startsWith(METER_PREFIX)) {
+                    return id;
+                }
+                List<Tag> tags = null;
+                for (String key : REQUEST_TAGS) {
+                    String value = id.getTag(key);
+                    if (value == null) {
+                        continue;
+                    }
+                    Set<String> values = seen.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet());
+                    if (values.contains(value) || (values.size() < maxValues && values.add(value))) {
+                        continue;
+                    }
+                    if (tags == null) {
+                        tags = new ArrayList<>();
+                        id.getTagsAsIterable().forEach(tags::add);
+                    }
+                    tags.replaceAll(tag -> tag.getKey().equals(key) ? Tag.of(key, OTHER_VALUE) : tag);
+                }
+                return tags == null ? id : id.replaceTags(tags);
+            }
+        };
+    }
+
+    private static String valueOrNone(String value) {
+        return value == null || value.isEmpty() ? NO_VALUE : value;
+    }
+
+    /**
+     * Records a single upstream call. Decode time and payload size are reported by
+     * {@link FirstEntryDecoder} through {@link #decoded(int, long)}.
+     */
+    public final class UpstreamCall implements FirstEntryDecoder.Listener {
+
+        private final Tags tags;
+        private final Timer.Sample sample;
+        private HttpStatusCode status;
+
+        private UpstreamCall(Tags tags, Timer.Sample sample) {
+            this.tags = tags;
+            this.sample = sample;
+        }
+
+        public void status(HttpStatusCode status) {
+            this.status = status;
+        }
+
+        @Override
+        public void decoded(int payloadBytes, long decodeNanos) {
+            DistributionSummary.builder(PAYLOAD_SIZE)
+                    .description("Size of Contentstack response bodies")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(payloadBytes);
+            Timer.builder(DECODE)
+                    .description("Time spent decoding Contentstack response bodies")
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(decodeNanos, TimeUnit.NANOSECONDS);
+        }
+
+        public void success() {
+            stop(status != null ? String.valueOf(status.value()) : NO_VALUE,
+                    status != null ? Outcome.forStatus(status.value()).name() : Outcome.SUCCESS.name());
+        }
+
+        public void error(Throwable error) {
+            if (error instanceof WebClientResponseException responseError) {
+                int statusCode = responseError.getStatusCode().value();
+                stop(String.valueOf(statusCode), Outcome.forStatus(statusCode).name());
+            } else {
+                stop(status != null ? String.valueOf(status.value()) : "IO_ERROR", Outcome.UNKNOWN.name());
+            }
+        }
+
+        public void cancel() {
+            stop("CANCELLED", Outcome.UNKNOWN.name());
+        }
+
+        private void stop(String statusTag, String outcome) {
+            sample.stop(Timer.builder(UPSTREAM_REQUESTS)
+                    .description("Latency of Contentstack CDN requests, including decoding")
+                    .tags(tags)
+                    .tag("status", statusTag)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+}
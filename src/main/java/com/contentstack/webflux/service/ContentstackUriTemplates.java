@@ -0,0 +1,110 @@
+package com.contentstack.webflux.service;
+
+import com.contentstack.webflux.config.ContentstackConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Pre-encoded request URIs for each {@link ContentstackEndpoint}.
+ * <p>
+ * The base URL, environment, {@code limit} and the {@code include[]} list of an endpoint never
+ * change at runtime, so they are resolved and encoded once when the application starts. Expanding
+ * a template only encodes the per-request values (content type UID, locale and variant) and
+ * concatenates them into a pre-sized builder; values that need no encoding are appended as is.
+ * The resulting URIs are fully encoded and must be passed to the WebClient as {@link java.net.URI}
+ * so they are not encoded a second time.
+ */
+@Component
+public class ContentstackUriTemplates {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentstackUriTemplates.class);
+
+    private static final String DEFAULT_BASE_URL = "https://api.contentstack.io/v3";
+    private static final String DEFAULT_ENVIRONMENT = "production";
+
+    private final Map<ContentstackEndpoint, Template> templates = new EnumMap<>(ContentstackEndpoint.class);
+
+    public ContentstackUriTemplates(ContentstackConfig config) {
+        final String baseUrl = Objects.requireNonNullElse(
+                (config.getApi() != null ? config.getApi().getBaseUrl() : null),
+                DEFAULT_BASE_URL);
+        final String environment = Objects.requireNonNullElse(config.getEnvironment(), DEFAULT_ENVIRONMENT);
+        log.info("Contentstack base URL: {}, environment: {}", baseUrl, environment);
+
+        String prefix = UriComponentsBuilder.fromUriString(baseUrl)
+                .path("/content_types/")
+                .build()
+                .encode()
+                .toUriString();
+        // Only entries[0] is ever used, so don't let the CDN send the rest
+        String query = "/entries?environment=" + encodeQueryParam(environment) + "&limit=1";
+
+        templates.put(ContentstackEndpoint.WEB_CONFIG, new Template(prefix, query,
+                includes(ContentstackIncludes.WEB_CONFIG_REFERENCE_INCLUDES), false));
+        templates.put(ContentstackEndpoint.FEATURE_FLAG_CONFIG, new Template(prefix, query, "", false));
+        templates.put(ContentstackEndpoint.NAVIGATION_CONFIG, new Template(prefix, query,
+                includes(ContentstackIncludes.NAVIGATION_CONFIG_REFERENCE_INCLUDES), false));
+        templates.put(ContentstackEndpoint.PERSONALIZED_CONFIG, new Template(prefix, query, "", false));
+        templates.put(ContentstackEndpoint.ENTRIES, new Template(prefix, query,
+                includes(ContentstackIncludes.WEB_LANDING_PAGE_REFERENCE_INCLUDES), true));
+    }
+
+    /**
+     * @param locale  appended when not empty
+     * @param variant appended when not empty and the endpoint supports variants
+     * @return the fully encoded request URI
+     */
+    public String expand(ContentstackEndpoint endpoint, String contentTypeUid, String locale, String variant) {
+        return templates.get(endpoint).expand(contentTypeUid, locale, variant);
+    }
+
+    /**
+     * Contentstack expects include[]=value format
+     */
+    private static String includes(List<String> includes) {
+        StringBuilder query = new StringBuilder();
+        for (String include : includes) {
+            query.append("&include%5B%5D=").append(encodeQueryParam(include));
+        }
+        return query.toString();
+    }
+
+    private static String encodeQueryParam(String value) {
+        return UriUtils.encodeQueryParam(value, StandardCharsets.UTF_8);
+    }
+
+    private record Template(String prefix, String query, String includes, boolean variants) {
+
+        String expand(String contentTypeUid, String locale, String variant) {
+            String encodedUid = UriUtils.encodePathSegment(contentTypeUid, StandardCharsets.UTF_8);
+            String encodedLocale = locale != null && !locale.isEmpty() ? encodeQueryParam(locale) : null;
+            String encodedVariant = variants && variant != null && !variant.isEmpty() && !variant.equals("{}")
+                    ? encodeQueryParam(variant)
+                    : null;
+
+            int length = prefix.length() + encodedUid.length() + query.length() + includes.length()
+                    + (encodedLocale != null ? encodedLocale.length() + 8 : 0)
+                    + (encodedVariant != null ? encodedVariant.length() + 9 : 0);
+            StringBuilder uri = new StringBuilder(length)
+                    .append(prefix)
+                    .append(encodedUid)
+                    .append(query);
+            if (encodedLocale != null) {
+                uri.append("&locale=").append(encodedLocale);
+            }
+            if (encodedVariant != null) {
+                uri.append("&variant=").append(encodedVariant);
+            }
+            return uri.append(includes).toString();
+        }
+    }
+}
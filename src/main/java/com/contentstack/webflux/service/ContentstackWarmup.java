@@ -0,0 +1,105 @@
+package com.contentstack.webflux.service;
+
+import com.contentstack.webflux.config.ContentstackConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fetches the responses listed under {@code contentstack.warmup.entries} into the cache once the
+ * application has started, so a freshly deployed instance does not serve its first requests
+ * from the CDN.
+ * <p>
+ * As a health indicator it reports {@code OUT_OF_SERVICE} until warm-up has finished or its
+ * timeout has passed; it is part of the readiness group, so traffic is only routed to the
+ * instance once its cache is warm. Entries that fail to load, including incomplete ones, are
+ * counted as failed and do not hold readiness or the other entries back.
+ */
+@Component
+public class ContentstackWarmup implements HealthIndicator {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentstackWarmup.class);
+
+    private final ContentstackConfig.Warmup properties;
+    private final ContentstackClientService contentstackClientService;
+
+    private final AtomicInteger loaded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private volatile State state = State.PENDING;
+
+    private enum State {
+        PENDING, RUNNING, COMPLETED, TIMED_OUT
+    }
+
+    public ContentstackWarmup(ContentstackConfig config, ContentstackClientService contentstackClientService) {
+        this.properties = config.getWarmup();
+        this.contentstackClientService = contentstackClientService;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void warmUp() {
+        List<ContentstackConfig.WarmupEntry> entries = properties.getEntries();
+        if (!properties.isEnabled() || entries.isEmpty()) {
+            state = State.COMPLETED;
+            return;
+        }
+        log.info("Warming up {} Contentstack responses", entries.size());
+        state = State.RUNNING;
+        long start = System.nanoTime();
+        Flux.fromIterable(entries)
+                // Deferred, so an entry that fails before returning a Mono fails alone
+                .flatMap(entry -> Mono.defer(() -> load(entry))
+                        .doOnSuccess(value -> loaded.incrementAndGet())
+                        .onErrorResume(error -> {
+                            failed.incrementAndGet();
+                            log.warn("Warm-up of {} {} ({}) failed: {}", entry.getEndpoint(), entry.getContentTypeUid(),
+                                    entry.getLocale(), error.getMessage());
+                            return Mono.empty();
+                        }), properties.getConcurrency())
+                .then()
+                .timeout(properties.getTimeout())
+                .subscribe(
+                        done -> { },
+                        error -> {
+                            state = error instanceof TimeoutException ? State.TIMED_OUT : State.COMPLETED;
+                            log.warn("Warm-up stopped after {} ms with {} loaded and {} failed: {}",
+                                    (System.nanoTime() - start) / 1_000_000, loaded.get(), failed.get(), error.getMessage());
+                        },
+                        () -> {
+                            state = State.COMPLETED;
+                            log.info("Warm-up completed in {} ms with {} loaded and {} failed",
+                                    (System.nanoTime() - start) / 1_000_000, loaded.get(), failed.get());
+                        });
+    }
+
+    private Mono<?> load(ContentstackConfig.WarmupEntry entry) {
+        if (entry.getEndpoint() == null || entry.getContentTypeUid() == null || entry.getContentTypeUid().isBlank()) {
+            return Mono.error(new IllegalArgumentException("endpoint and content-type-uid are required"));
+        }
+        return contentstackClientService
+                .fetch(entry.getEndpoint(), entry.getContentTypeUid(), entry.getLocale(), entry.getVariant());
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder health = state == State.PENDING || state == State.RUNNING
+                ? Health.outOfService()
+                : Health.up();
+        return health
+                .withDetail("state", state.name())
+                .withDetail("entries", properties.isEnabled() ? properties.getEntries().size() : 0)
+                .withDetail("loaded", loaded.get())
+                .withDetail("failed", failed.get())
+                .build();
+    }
+}
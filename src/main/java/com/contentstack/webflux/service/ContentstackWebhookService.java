@@ -0,0 +1,178 @@
+package com.contentstack.webflux.service;
+
+import com.contentstack.webflux.cache.CacheKey;
+import com.contentstack.webflux.cache.ContentstackResponseCache;
+import com.contentstack.webflux.config.ContentstackConfig;
+import com.contentstack.webflux.dto.ContentstackWebhookEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Applies Contentstack entry webhooks to {@link ContentstackResponseCache}.
+ * <p>
+ * A publish, unpublish or delete of an entry invalidates every cached response of its content
+ * type in its locale (and responses fetched without a locale, which may resolve to it). The
+ * invalidated responses are kept as last-known-good content and, unless disabled, re-fetched
+ * in the background after {@code contentstack.webhook.prewarm-delay}, so caches can use long
+ * TTLs and still pick up published changes within seconds.
+ */
+@Service
+public class ContentstackWebhookService {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentstackWebhookService.class);
+
+    private static final String BASIC_PREFIX = "Basic ";
+    private static final String ENTRY_MODULE = "entry";
+    private static final Set<String> INVALIDATING_EVENTS = Set.of("publish", "unpublish", "delete");
+
+    private final ContentstackConfig.Webhook properties;
+    private final String environment;
+    private final ContentstackResponseCache responseCache;
+    private final ContentstackClientService contentstackClientService;
+    private final MeterRegistry meterRegistry;
+
+    public ContentstackWebhookService(ContentstackConfig config,
+                                      ContentstackResponseCache responseCache,
+                                      ContentstackClientService contentstackClientService,
+                                      MeterRegistry meterRegistry) {
+        this.properties = config.getWebhook();
+        this.environment = Objects.requireNonNullElse(config.getEnvironment(), "production");
+        this.responseCache = responseCache;
+        this.contentstackClientService = contentstackClientService;
+        this.meterRegistry = meterRegistry;
+        if (properties.getSecret() == null || properties.getSecret().isEmpty()) {
+            log.warn("contentstack.webhook.secret is not set, all webhooks will be rejected");
+        }
+    }
+
+    /**
+     * Checks that the webhook carries the shared secret, either as the value of
+     * {@code contentstack.webhook.token-header} or as the password of HTTP Basic authentication,
+     * whichever the Contentstack webhook is configured to send. Comparison is in constant time.
+     */
+    public boolean isAuthentic(HttpHeaders headers) {
+        String secret = properties.getSecret();
+        if (secret == null || secret.isEmpty()) {
+            return false;
+        }
+        String token = headers.getFirst(properties.getTokenHeader());
+        if (token != null) {
+            return matches(secret, token);
+        }
+        String authorization = headers.getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+            return false;
+        }
+        String credentials;
+        try {
+            credentials = new String(Base64.getDecoder().decode(authorization.substring(BASIC_PREFIX.length()).trim()),
+                    StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        int colon = credentials.indexOf(':');
+        if (colon < 0) {
+            return false;
+        }
+        String username = properties.getUsername();
+        boolean usernameMatches = username == null || username.isEmpty() || matches(username, credentials.substring(0, colon));
+        return matches(secret, credentials.substring(colon + 1)) & usernameMatches;
+    }
+
+    /**
+     * Compares digests rather than the values, so the time taken does not depend on the length
+     * or content of {@code actual}.
+     */
+    private static boolean matches(String expected, String actual) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] expectedDigest = digest.digest(expected.getBytes(StandardCharsets.UTF_8));
+            byte[] actualDigest = digest.digest(actual.getBytes(StandardCharsets.UTF_8));
+            return MessageDigest.isEqual(expectedDigest, actualDigest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Invalidates the cached responses affected by {@code event} and schedules their re-fetch.
+     *
+     * @return the invalidated keys; empty when the event does not affect cached content
+     */
+    public List<CacheKey> handle(ContentstackWebhookEvent event) {
+        ContentstackWebhookEvent.Data data = event.getData();
+        String contentTypeUid = data != null && data.getContentType() != null ? data.getContentType().getUid() : null;
+        String eventEnvironment = data != null && data.getEnvironment() != null ? data.getEnvironment().getName() : null;
+
+        if (!ENTRY_MODULE.equals(event.getModule())
+                || !INVALIDATING_EVENTS.contains(event.getEvent())
+                || contentTypeUid == null
+                || (eventEnvironment != null && !eventEnvironment.equals(environment))) {
+            log.debug("Ignoring webhook {} {} for content type {} in environment {}",
+                    event.getModule(), event.getEvent(), contentTypeUid, eventEnvironment);
+            countEvent(event, "ignored");
+            return List.of();
+        }
+
+        String locale = data.getEntry() != null && data.getEntry().getLocale() != null
+                ? data.getEntry().getLocale()
+                : data.getLocale();
+        List<CacheKey> invalidated = responseCache.invalidate(key -> contentTypeUid.equals(key.contentTypeUid())
+                && (locale == null || key.locale() == null || key.locale().isEmpty() || key.locale().equalsIgnoreCase(locale)));
+        log.info("Webhook {} for entry {} of content type {} ({}) invalidated {} cached responses",
+                event.getEvent(), data.getEntry() != null ? data.getEntry().getUid() : null,
+                contentTypeUid, locale, invalidated.size());
+        countEvent(event, "invalidated");
+
+        if (properties.isPrewarm() && !invalidated.isEmpty()) {
+            prewarm(invalidated);
+        }
+        return invalidated;
+    }
+
+    private void prewarm(List<CacheKey> keys) {
+        Flux.fromIterable(keys)
+                .delaySubscription(properties.getPrewarmDelay())
+                .flatMap(key -> contentstackClientService.fetch(key.endpoint(), key.contentTypeUid(), key.locale(), key.variant())
+                        .onErrorResume(error -> {
+                            log.warn("Pre-warming {} failed: {}", key.uri(), error.getMessage());
+                            return Mono.empty();
+                        }), properties.getPrewarmConcurrency())
+                .subscribe();
+    }
+
+    private void countEvent(ContentstackWebhookEvent event, String outcome) {
+        Counter.builder("contentstack.webhook.events")
+                .description("Contentstack webhooks received")
+                .tag("event", Objects.requireNonNullElse(event.getEvent(), "none"))
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Counts a webhook rejected before it could be parsed, e.g. for a missing or wrong secret.
+     */
+    public void countRejected() {
+        Counter.builder("contentstack.webhook.events")
+                .description("Contentstack webhooks received")
+                .tag("event", "none")
+                .tag("outcome", "rejected")
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,248 @@
+package com.contentstack.webflux.service;
+
+import com.contentstack.webflux.dto.FeatureFlagEvaluationRequest;
+import com.contentstack.webflux.dto.FeatureFlagEvaluationResponse;
+import com.contentstack.webflux.dto.FeatureFlags;
+import com.contentstack.webflux.dto.PersonalizeConfigResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves feature flags for one user on the server, so clients receive only the values that
+ * apply to them instead of the whole flag map.
+ * <p>
+ * The user's attributes are matched against the audience groups of the personalized
+ * configuration: a user belongs to a group when, for every attribute key of the group, its value is
+ * one of the values the group lists for that key. Values listed for the same key are alternatives,
+ * and different keys must all match. A flag is targeted by a string list flag named {@code <flag>}{@value #TARGETING_SUFFIX}
+ * listing group names. It resolves to its value for users in one of those groups, and otherwise
+ * to {@code false} for boolean flags or is left out. Untargeted flags apply to everyone, and
+ * targeting lists themselves are never returned.
+ * <p>
+ * Both the audiences and the flag rules are compiled once per cached response, into an index from
+ * attribute key and value to the groups requiring it and into flat per-flag arrays, and kept
+ * alongside the response by identity. Evaluating a request is then a pass over the user's
+ * attributes and the flags, without going back to the DTOs.
+ */
+@Service
+public class FeatureFlagEvaluator {
+
+    static final String TARGETING_SUFFIX = ".audiences";
+
+    private final ContentstackClientService contentstackClientService;
+    private final Cache<FeatureFlags, FlagRules> flagRules = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(64)
+            .build();
+    private final Cache<PersonalizeConfigResponse.Entry, AudienceIndex> audienceIndexes = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(64)
+            .build();
+
+    public FeatureFlagEvaluator(ContentstackClientService contentstackClientService) {
+        this.contentstackClientService = contentstackClientService;
+    }
+
+    public Mono<FeatureFlagEvaluationResponse> evaluate(FeatureFlagEvaluationRequest request) {
+        return Mono.zip(
+                contentstackClientService.fetchFeatureFlagConfig(
+                        request.getFeatureFlagContentTypeUid(), request.getLocale(), request.getVariant()),
+                contentstackClientService.fetchPersonalizedConfig(
+                        request.getPersonalizedContentTypeUid(), request.getLocale(), request.getVariant())
+        ).map(configs -> evaluate(
+                flagRules.get(configs.getT1(), FlagRules::compile),
+                audienceIndexes.get(configs.getT2(), AudienceIndex::compile),
+                request));
+    }
+
+    static FeatureFlagEvaluationResponse evaluate(FlagRules rules, AudienceIndex audiences,
+                                                  FeatureFlagEvaluationRequest request) {
+        Set<String> matched = audiences.match(request.getAttributes());
+        FeatureFlagEvaluationResponse response = new FeatureFlagEvaluationResponse();
+        response.setAudiences(new ArrayList<>(matched));
+        response.setFlags(rules.resolve(matched, request.getKeys()));
+        return response;
+    }
+
+    /**
+     * Flag values with the audience groups each one is targeted at, {@code null} for everyone.
+     */
+    static final class FlagRules {
+
+        private final String[] names;
+        private final Object[] values;
+        private final String[][] targets;
+        private final Map<String, Integer> indexes;
+
+        private FlagRules(String[] names, Object[] values, String[][] targets) {
+            this.names = names;
+            this.values = values;
+            this.targets = targets;
+            this.indexes = new HashMap<>(names.length * 2);
+            for (int i = 0; i < names.length; i++) {
+                indexes.put(names[i], i);
+            }
+        }
+
+        static FlagRules compile(FeatureFlags flags) {
+            Map<String, Object> all = flags.asMap();
+            List<String> names = new ArrayList<>(all.size());
+            for (String name : all.keySet()) {
+                if (!isTargetingList(name, all)) {
+                    names.add(name);
+                }
+            }
+            int size = names.size();
+            Object[] values = new Object[size];
+            String[][] targets = new String[size][];
+            for (int i = 0; i < size; i++) {
+                String name = names.get(i);
+                values[i] = all.get(name);
+                if (all.get(name + TARGETING_SUFFIX) instanceof List<?> audiences) {
+                    targets[i] = audiences.stream()
+                            .filter(String.class::isInstance)
+                            .map(String.class::cast)
+                            .toArray(String[]::new);
+                }
+            }
+            return new FlagRules(names.toArray(new String[0]), values, targets);
+        }
+
+        private static boolean isTargetingList(String name, Map<String, Object> all) {
+            return name.endsWith(TARGETING_SUFFIX) && all.get(name) instanceof List<?>
+                    && all.containsKey(name.substring(0, name.length() - TARGETING_SUFFIX.length()));
+        }
+
+        Map<String, Object> resolve(Set<String> audiences, Collection<String> keys) {
+            Map<String, Object> resolved = new LinkedHashMap<>();
+            if (keys == null || keys.isEmpty()) {
+                for (int i = 0; i < names.length; i++) {
+                    resolve(i, audiences, resolved);
+                }
+            } else {
+                for (String key : keys) {
+                    Integer index = indexes.get(key);
+                    if (index != null) {
+                        resolve(index, audiences, resolved);
+                    }
+                }
+            }
+            return resolved;
+        }
+
+        private void resolve(int index, Set<String> audiences, Map<String, Object> resolved) {
+            String[] target = targets[index];
+            if (target == null || targets(target, audiences)) {
+                resolved.put(names[index], values[index]);
+            } else if (values[index] instanceof Boolean) {
+                resolved.put(names[index], Boolean.FALSE);
+            }
+        }
+
+        private static boolean targets(String[] target, Set<String> audiences) {
+            for (String audience : target) {
+                if (audiences.contains(audience)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Audience groups indexed by the attributes they require. Matching counts, per group, the user
+     * attributes it requires; a group matches when one was found for each of its keys. A user has
+     * a single value per key, so each key counts at most once however many values it lists.
+     */
+    static final class AudienceIndex {
+
+        private static final int[] NO_GROUPS = new int[0];
+
+        private final String[] groupNames;
+        private final int[] required;
+        private final Map<String, Map<String, int[]>> groupsByAttribute;
+
+        private AudienceIndex(String[] groupNames, int[] required, Map<String, Map<String, int[]>> groupsByAttribute) {
+            this.groupNames = groupNames;
+            this.required = required;
+            this.groupsByAttribute = groupsByAttribute;
+        }
+
+        static AudienceIndex compile(PersonalizeConfigResponse.Entry entry) {
+            List<PersonalizeConfigResponse.Group> groups = entry.getAudiences() != null
+                    && entry.getAudiences().getGroup() != null ? entry.getAudiences().getGroup() : List.of();
+            List<String> groupNames = new ArrayList<>();
+            List<Integer> required = new ArrayList<>();
+            Map<String, Map<String, int[]>> groupsByAttribute = new HashMap<>();
+            for (PersonalizeConfigResponse.Group group : groups) {
+                if (group == null || group.getName() == null) {
+                    continue;
+                }
+                Set<Map.Entry<String, String>> attributes = new LinkedHashSet<>();
+                if (group.getAttributes() != null) {
+                    for (PersonalizeConfigResponse.Attributes attribute : group.getAttributes()) {
+                        if (attribute != null && attribute.getKey() != null && attribute.getValue() != null) {
+                            attributes.add(Map.entry(attribute.getKey(), attribute.getValue()));
+                        }
+                    }
+                }
+                // A group without attributes would match everybody, which is never what was meant
+                if (attributes.isEmpty()) {
+                    continue;
+                }
+                int index = groupNames.size();
+                groupNames.add(group.getName());
+                required.add((int) attributes.stream().map(Map.Entry::getKey).distinct().count());
+                for (Map.Entry<String, String> attribute : attributes) {
+                    groupsByAttribute
+                            .computeIfAbsent(attribute.getKey(), key -> new HashMap<>())
+                            .merge(attribute.getValue(), new int[]{index}, AudienceIndex::concat);
+                }
+            }
+            return new AudienceIndex(
+                    groupNames.toArray(new String[0]),
+                    required.stream().mapToInt(Integer::intValue).toArray(),
+                    groupsByAttribute);
+        }
+
+        Set<String> match(Map<String, String> attributes) {
+            if (attributes == null || attributes.isEmpty() || groupNames.length == 0) {
+                return Set.of();
+            }
+            int[] found = new int[groupNames.length];
+            attributes.forEach((key, value) -> {
+                Map<String, int[]> byValue = groupsByAttribute.get(key);
+                if (byValue != null && value != null) {
+                    for (int group : byValue.getOrDefault(value, NO_GROUPS)) {
+                        found[group]++;
+                    }
+                }
+            });
+            Set<String> matched = new LinkedHashSet<>();
+            for (int group = 0; group < groupNames.length; group++) {
+                if (found[group] == required[group]) {
+                    matched.add(groupNames[group]);
+                }
+            }
+            return matched.isEmpty() ? Set.of() : matched;
+        }
+
+        private static int[] concat(int[] first, int[] second) {
+            int[] both = Arrays.copyOf(first, first.length + second.length);
+            System.arraycopy(second, 0, both, first.length, second.length);
+            return both;
+        }
+    }
+}
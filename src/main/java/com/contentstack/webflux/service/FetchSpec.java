@@ -0,0 +1,29 @@
+package com.contentstack.webflux.service;
+
+import java.util.function.Function;
+
+/**
+ * What differs between the typed fetches of {@link ContentstackClientService}: the endpoint, the
+ * type {@code entries[0]} is decoded to, and how the decoded entry becomes the value that is
+ * returned and cached. Everything else (URI template, transport, decoding, caching, coalescing,
+ * resilience and metrics) is the same pipeline for all of them.
+ *
+ * @param endpoint      endpoint whose URI template, cache settings and limits apply
+ * @param method        name the upstream call is recorded under in {@link ContentstackMetrics}
+ * @param entryType     type {@code entries[0]} is decoded to
+ * @param postProcessor maps the decoded entry to the returned value; runs once per download, not
+ *                      on cache hits or 304 revalidations
+ */
+record FetchSpec<E, T>(ContentstackEndpoint endpoint,
+                       String method,
+                       Class<E> entryType,
+                       Function<? super E, ? extends T> postProcessor) {
+
+    static <E> FetchSpec<E, E> of(ContentstackEndpoint endpoint, String method, Class<E> entryType) {
+        return new FetchSpec<>(endpoint, method, entryType, Function.identity());
+    }
+
+    <R> FetchSpec<E, R> map(Function<? super T, ? extends R> next) {
+        return new FetchSpec<>(endpoint, method, entryType, entry -> next.apply(postProcessor.apply(entry)));
+    }
+}
@@ -0,0 +1,167 @@
+package com.contentstack.webflux.service;
+
+import com.contentstack.webflux.config.ContentstackConfig;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes only {@code entries[0]} from a Contentstack entries response.
+ * <p>
+ * The response buffers are joined without copying (a composite buffer for Netty) and read
+ * with a streaming {@link JsonParser}: top-level fields other than {@code entries} are
+ * skipped token by token, the first element is bound to the entry type, and the parser is
+ * closed right after it, so later entries are never tokenized, let alone bound.
+ * <p>
+ * For callers that forward the JSON as is, {@link #extract(Flux)} locates the same element
+ * with a {@link FirstEntryScanner} and hands back slices of the response buffers instead.
+ */
+@Component
+public class FirstEntryDecoder {
+
+    private static final String ENTRIES_FIELD = "entries";
+
+    private final ObjectMapper objectMapper;
+    private final int maxInMemorySize;
+
+    public FirstEntryDecoder(ObjectMapper objectMapper, ContentstackConfig config) {
+        this.objectMapper = objectMapper;
+        this.maxInMemorySize = config.getHttp().getMaxInMemorySize();
+    }
+
+    /**
+     * Notified once the response body has been decoded, whether or not it had an entry.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        Listener NONE = (payloadBytes, decodeNanos) -> { };
+
+        void decoded(int payloadBytes, long decodeNanos);
+    }
+
+    /**
+     * @return the first entry, or an empty {@link Mono} when {@code entries} is missing or empty
+     */
+    public <T> Mono<T> decode(Flux<DataBuffer> body, Class<T> entryType) {
+        return decode(body, entryType, Listener.NONE);
+    }
+
+    /**
+     * Same as {@link #decode(Flux, Class)}, reporting the body size and the time spent binding
+     * it to {@code listener}.
+     */
+    public <T> Mono<T> decode(Flux<DataBuffer> body, Class<T> entryType, Listener listener) {
+        return DataBufferUtils.join(body, maxInMemorySize)
+                .flatMap(buffer -> {
+                    int payloadBytes = buffer.readableByteCount();
+                    long start = System.nanoTime();
+                    try {
+                        T entry = readFirstEntry(buffer, entryType);
+                        listener.decoded(payloadBytes, System.nanoTime() - start);
+                        return Mono.justOrEmpty(entry);
+                    } catch (IOException e) {
+                        return Mono.error(e);
+                    } finally {
+                        DataBufferUtils.release(buffer);
+                    }
+                });
+    }
+
+    /**
+     * Narrows the response to the raw bytes of {@code entries[0]}. The returned buffers are
+     * slices of the response buffers, not copies, and the response is cancelled as soon as
+     * the entry is complete.
+     *
+     * @return the entry bytes, or an error when {@code entries} is missing, empty or cut short
+     */
+    public Flux<DataBuffer> extract(Flux<DataBuffer> body) {
+        return Flux.defer(() -> {
+            FirstEntryScanner scanner = new FirstEntryScanner();
+            return body
+                    .<DataBuffer>handle((buffer, sink) -> {
+                        DataBuffer slice = sliceFirstEntry(scanner, buffer);
+                        if (slice != null) {
+                            sink.next(slice);
+                        }
+                        if (scanner.isDone()) {
+                            sink.complete();
+                        }
+                    })
+                    .concatWith(Mono.defer(() -> {
+                        if (scanner.isFound()) {
+                            return Mono.empty();
+                        }
+                        return Mono.error(new RuntimeException(scanner.isTruncated()
+                                ? "Response ended inside the first entry"
+                                : "No entries found in response"));
+                    }))
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+        });
+    }
+
+    /**
+     * Scans {@code buffer} and returns the part of it that belongs to {@code entries[0]}, releasing
+     * the rest. Netty buffers can expose several NIO buffers, so scanner offsets are mapped back to
+     * absolute positions in the data buffer.
+     */
+    private static DataBuffer sliceFirstEntry(FirstEntryScanner scanner, DataBuffer buffer) {
+        int readPosition = buffer.readPosition();
+        int start = -1;
+        int end = -1;
+        int offset = 0;
+        try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+            while (iterator.hasNext() && !scanner.isDone()) {
+                ByteBuffer byteBuffer = iterator.next();
+                int[] range = scanner.scan(byteBuffer);
+                if (range != null) {
+                    int base = readPosition + offset - byteBuffer.position();
+                    if (start < 0) {
+                        start = base + range[0];
+                    }
+                    end = base + range[1];
+                }
+                offset += byteBuffer.remaining();
+            }
+        }
+        if (start < 0) {
+            DataBufferUtils.release(buffer);
+            return null;
+        }
+        buffer.readPosition(start);
+        DataBuffer slice = buffer.split(end);
+        DataBufferUtils.release(buffer);
+        return slice;
+    }
+
+    private <T> T readFirstEntry(DataBuffer buffer, Class<T> entryType) throws IOException {
+        try (InputStream in = buffer.asInputStream();
+             JsonParser parser = objectMapper.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!ENTRIES_FIELD.equals(field)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY || parser.nextToken() != JsonToken.START_OBJECT) {
+                    return null;
+                }
+                return objectMapper.readValue(parser, entryType);
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.contentstack.webflux.service;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Incremental byte-level scanner that locates {@code entries[0]} in a Contentstack entries
+ * response without tokenizing it.
+ * <p>
+ * Buffers are passed to {@link #scan(ByteBuffer)} in arrival order. Only JSON structure is
+ * tracked (nesting depth, string and escape state, top-level keys), so the cost is a single
+ * pass over the bytes up to the end of the first entry; nothing after it is looked at.
+ * Instances are stateful and belong to a single response.
+ */
+public final class FirstEntryScanner {
+
+    private static final byte[] ENTRIES_KEY = {'e', 'n', 't', 'r', 'i', 'e', 's'};
+
+    private enum State {
+        SEEK_ENTRIES, EXPECT_ARRAY, EXPECT_ENTRY, IN_ENTRY, DONE
+    }
+
+    private State state = State.SEEK_ENTRIES;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    private boolean expectKey;
+    private boolean capturingKey;
+    private int keyLength;
+    private boolean keyMismatch;
+    private boolean entriesKeySeen;
+    private boolean found;
+
+    /**
+     * Scans the remaining bytes of {@code buffer} without changing its position.
+     *
+     * @return the absolute {@code [start, end)} indices of the part of {@code buffer} that belongs
+     *         to {@code entries[0]}, or {@code null} if none of it does
+     */
+    public int[] scan(ByteBuffer buffer) {
+        int index = buffer.position();
+        int limit = buffer.limit();
+        while (index < limit && state != State.IN_ENTRY && state != State.DONE) {
+            byte b = buffer.get(index++);
+            switch (state) {
+                case SEEK_ENTRIES -> seek(b);
+                case EXPECT_ARRAY -> {
+                    if (!isWhitespace(b)) {
+                        state = b == '[' ? State.EXPECT_ENTRY : State.DONE;
+                    }
+                }
+                case EXPECT_ENTRY -> {
+                    if (!isWhitespace(b)) {
+                        if (b == '{') {
+                            index--;
+                            depth = 0;
+                            state = State.IN_ENTRY;
+                        } else {
+                            state = State.DONE;
+                        }
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        if (state != State.IN_ENTRY || index >= limit) {
+            return null;
+        }
+        int start = index;
+        int end = scanEntry(buffer, index, limit);
+        if (end < 0) {
+            return new int[]{start, limit};
+        }
+        found = true;
+        state = State.DONE;
+        return new int[]{start, end};
+    }
+
+    /**
+     * Tight loop over the entry body, which is where nearly all bytes are spent.
+     *
+     * @return the index just past the closing brace of the entry, or -1 if it is not in this buffer
+     */
+    private int scanEntry(ByteBuffer buffer, int index, int limit) {
+        int entryDepth = depth;
+        boolean string = inString;
+        boolean escape = escaped;
+        while (index < limit) {
+            if (string) {
+                // Skip string contents in a loop of their own: most of an entry is text and URLs
+                if (escape) {
+                    escape = false;
+                    index++;
+                }
+                while (index < limit) {
+                    byte b = buffer.get(index++);
+                    if (b == '"') {
+                        string = false;
+                        break;
+                    }
+                    if (b == '\\') {
+                        if (index == limit) {
+                            escape = true;
+                            break;
+                        }
+                        index++;
+                    }
+                }
+                continue;
+            }
+            byte b = buffer.get(index++);
+            if (b == '"') {
+                string = true;
+            } else if (b == '{' || b == '[') {
+                entryDepth++;
+            } else if ((b == '}' || b == ']') && --entryDepth == 0) {
+                depth = 0;
+                return index;
+            }
+        }
+        depth = entryDepth;
+        inString = string;
+        escaped = escape;
+        return -1;
+    }
+
+    /**
+     * Whether scanning is finished, either because {@code entries[0]} has been read completely or
+     * because the response turned out not to have one.
+     */
+    public boolean isDone() {
+        return state == State.DONE;
+    }
+
+    /**
+     * Whether {@code entries[0]} has been read completely.
+     */
+    public boolean isFound() {
+        return found;
+    }
+
+    /**
+     * Whether the body ended part-way through {@code entries[0]}.
+     */
+    public boolean isTruncated() {
+        return state == State.IN_ENTRY;
+    }
+
+    private void seek(byte b) {
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (b == '\\') {
+                escaped = true;
+                keyMismatch = true;
+            } else if (b == '"') {
+                inString = false;
+                if (capturingKey) {
+                    capturingKey = false;
+                    entriesKeySeen = !keyMismatch && keyLength == ENTRIES_KEY.length;
+                }
+            } else if (capturingKey) {
+                if (keyLength < ENTRIES_KEY.length && b == ENTRIES_KEY[keyLength]) {
+                    keyLength++;
+                } else {
+                    keyMismatch = true;
+                }
+            }
+            return;
+        }
+        switch (b) {
+            case '"' -> {
+                inString = true;
+                if (depth == 1 && expectKey) {
+                    expectKey = false;
+                    capturingKey = true;
+                    keyLength = 0;
+                    keyMismatch = false;
+                }
+            }
+            case ':' -> {
+                if (depth == 1 && entriesKeySeen) {
+                    state = State.EXPECT_ARRAY;
+                }
+                entriesKeySeen = false;
+            }
+            case '{' -> {
+                depth++;
+                expectKey = depth == 1;
+            }
+            case '[' -> depth++;
+            case '}', ']' -> depth--;
+            case ',' -> expectKey = depth == 1;
+            default -> {
+            }
+        }
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+}
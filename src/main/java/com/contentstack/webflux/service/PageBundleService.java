@@ -0,0 +1,110 @@
+package com.contentstack.webflux.service;
+
+import com.contentstack.webflux.dto.PageBundleRequest;
+import com.contentstack.webflux.dto.PageBundleResponse;
+import com.contentstack.webflux.exception.ContentstackUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+/**
+ * Builds a {@link PageBundleResponse} by fetching all requested sections through
+ * {@link ContentstackClientService} in parallel, so a page render waits for the slowest section
+ * instead of the sum of them. A failing section is recorded in the bundle's errors as a short
+ * error code and does not fail the others.
+ */
+@Service
+public class PageBundleService {
+
+    private static final Logger log = LoggerFactory.getLogger(PageBundleService.class);
+
+    public static final String PAGE = "page";
+    public static final String NAVIGATION = "navigation";
+    public static final String WEB_CONFIG = "webConfig";
+    public static final String FEATURE_FLAGS = "featureFlags";
+    public static final String PERSONALIZED_CONFIG = "personalizedConfig";
+
+    private final ContentstackClientService contentstackClientService;
+
+    public PageBundleService(ContentstackClientService contentstackClientService) {
+        this.contentstackClientService = contentstackClientService;
+    }
+
+    public Mono<PageBundleResponse> fetchPageBundle(PageBundleRequest request) {
+        String locale = request.getLocale();
+        String variant = request.getVariant();
+
+        return Mono.zip(
+                section(PAGE, request.getPageContentTypeUid(), uid ->
+                        contentstackClientService.fetchEntries(uid, locale, request.getPersonalizedVariant())),
+                section(NAVIGATION, request.getNavigationContentTypeUid(), uid ->
+                        contentstackClientService.fetchNavigationConfig(uid, locale, variant)),
+                section(WEB_CONFIG, request.getWebConfigContentTypeUid(), uid ->
+                        contentstackClientService.fetchWebConfig(uid, locale, variant)),
+                section(FEATURE_FLAGS, request.getFeatureFlagContentTypeUid(), uid ->
+                        contentstackClientService.fetchFeatureFlagConfig(uid, locale, variant)),
+                section(PERSONALIZED_CONFIG, request.getPersonalizedContentTypeUid(), uid ->
+                        contentstackClientService.fetchPersonalizedConfig(uid, locale, variant))
+        ).map(sections -> {
+            PageBundleResponse bundle = new PageBundleResponse();
+            bundle.setPage(sections.getT1().value(bundle));
+            bundle.setNavigation(sections.getT2().value(bundle));
+            bundle.setWebConfig(sections.getT3().value(bundle));
+            bundle.setFeatureFlags(sections.getT4().value(bundle));
+            bundle.setPersonalizedConfig(sections.getT5().value(bundle));
+            return bundle;
+        });
+    }
+
+    /**
+     * Fetches one section, turning a failure into a {@link Section} carrying the error so that
+     * {@link Mono#zip} still sees a value for every section.
+     */
+    private static <T> Mono<Section<T>> section(String name, String contentTypeUid, Function<String, Mono<T>> fetch) {
+        if (contentTypeUid == null || contentTypeUid.isBlank()) {
+            return Mono.just(new Section<>(name, null, null));
+        }
+        return fetch.apply(contentTypeUid)
+                .map(value -> new Section<>(name, value, null))
+                .defaultIfEmpty(new Section<>(name, null, null))
+                .onErrorResume(error -> {
+                    String code = errorCode(error);
+                    if (PageBundleResponse.UNAVAILABLE.equals(code)) {
+                        log.debug("Page bundle section {} refused for content type {}: {}", name, contentTypeUid, error.getMessage());
+                    } else {
+                        log.warn("Page bundle section {} failed for content type {}: {}", name, contentTypeUid, error.getMessage());
+                    }
+                    return Mono.just(new Section<>(name, null, code));
+                });
+    }
+
+    /**
+     * A short code for the client; the message may carry the upstream URI and stays in the log.
+     */
+    private static String errorCode(Throwable error) {
+        if (error instanceof ContentstackUnavailableException) {
+            return PageBundleResponse.UNAVAILABLE;
+        }
+        if (UpstreamErrors.isTimeout(error)) {
+            return PageBundleResponse.TIMEOUT;
+        }
+        if (error instanceof WebClientResponseException responseError && responseError.getStatusCode().value() == 404) {
+            return PageBundleResponse.NOT_FOUND;
+        }
+        return UpstreamErrors.isTransient(error) ? PageBundleResponse.UPSTREAM_ERROR : PageBundleResponse.INTERNAL_ERROR;
+    }
+
+    private record Section<T>(String name, T value, String error) {
+
+        T value(PageBundleResponse bundle) {
+            if (error != null) {
+                bundle.getErrors().put(name, error);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.contentstack.webflux.service;
+
+import com.contentstack.webflux.cache.CacheKey;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * What {@link ContentstackClientService} did for one sampled request: the cache outcome of each
+ * typed fetch and the upstream calls made, summarized in the request log line.
+ * <p>
+ * A trace is put into the Reactor context of the requests chosen for logging. Requests without
+ * one take none of these code paths beyond a context lookup.
+ */
+public final class RequestTrace {
+
+    public enum CacheOutcome {
+        /** Served from a fresh cached response. */
+        HIT,
+        /** Served from an expired cached response while it is refreshed in the background. */
+        STALE,
+        /** Nothing cached, fetched upstream. */
+        MISS,
+        /** Cached response expired or invalidated, fetched upstream. */
+        REFRESH,
+        /** Cached response confirmed by a 304 from the CDN. */
+        REVALIDATED,
+        /** Cached response served because the fetch failed or a circuit breaker is open. */
+        LAST_KNOWN_GOOD,
+        /** Response cache disabled. */
+        BYPASS
+    }
+
+    private static final Fetch NOT_TRACED = new Fetch(null);
+
+    private final Queue<Fetch> fetches = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final AtomicLong upstreamNanos = new AtomicLong();
+
+    public Context writeTo(Context context) {
+        return context.put(RequestTrace.class, this);
+    }
+
+    /**
+     * Starts tracing one typed fetch, or returns a no-op when the request is not traced.
+     */
+    static Fetch fetch(ContextView context, CacheKey cacheKey) {
+        RequestTrace trace = context.getOrDefault(RequestTrace.class, null);
+        if (trace == null) {
+            return NOT_TRACED;
+        }
+        Fetch fetch = new Fetch(cacheKey);
+        trace.fetches.add(fetch);
+        return fetch;
+    }
+
+    static void upstreamCall(ContextView context, long nanos) {
+        RequestTrace trace = context.getOrDefault(RequestTrace.class, null);
+        if (trace != null) {
+            trace.upstreamCalls.incrementAndGet();
+            trace.upstreamNanos.addAndGet(nanos);
+        }
+    }
+
+    public int upstreamCalls() {
+        return upstreamCalls.get();
+    }
+
+    public long upstreamNanos() {
+        return upstreamNanos.get();
+    }
+
+    /**
+     * Appends the fetches as {@code ENDPOINT/contentTypeUid/locale:OUTCOME}, comma separated.
+     */
+    public void appendFetches(StringBuilder line) {
+        boolean first = true;
+        for (Fetch fetch : fetches) {
+            if (!first) {
+                line.append(',');
+            }
+            first = false;
+            line.append(fetch.cacheKey.endpoint()).append('/')
+                    .append(fetch.cacheKey.contentTypeUid()).append('/')
+                    .append(fetch.cacheKey.locale()).append(':')
+                    .append(fetch.outcome);
+        }
+        if (first) {
+            line.append('-');
+        }
+    }
+
+    /**
+     * One typed fetch of a traced request. The outcome is overwritten as the fetch progresses,
+     * e.g. from {@link CacheOutcome#REFRESH} to {@link CacheOutcome#REVALIDATED}.
+     */
+    static final class Fetch {
+
+        private final CacheKey cacheKey;
+        private volatile CacheOutcome outcome;
+
+        private Fetch(CacheKey cacheKey) {
+            this.cacheKey = cacheKey;
+        }
+
+        void outcome(CacheOutcome outcome) {
+            if (this != NOT_TRACED) {
+                this.outcome = outcome;
+            }
+        }
+    }
+}
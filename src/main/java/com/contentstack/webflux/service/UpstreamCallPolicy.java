@@ -0,0 +1,137 @@
+package com.contentstack.webflux.service;
+
+import com.contentstack.webflux.config.ContentstackConfig;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Retries and hedging for upstream CDN calls. Every Contentstack fetch is an idempotent GET, so
+ * both are safe to apply to any of them.
+ * <ul>
+ *     <li>Transient failures (see {@link UpstreamErrors#isTransient(Throwable)}) are retried up
+ *     to {@code contentstack.retry.max-retries} times with exponential backoff and jitter. When
+ *     retries are exhausted the last failure is propagated as is.</li>
+ *     <li>With {@code contentstack.hedge.enabled}, a second request is sent when the first has
+ *     not answered within the recent p95 latency of the endpoint, and whichever answers first
+ *     is used. A failing hedge never fails the call.</li>
+ * </ul>
+ * Retries and hedges are counted by {@link ContentstackMetrics}.
+ */
+@Component
+public class UpstreamCallPolicy {
+
+    private final ContentstackConfig.Retry retryProperties;
+    private final ContentstackConfig.Hedge hedgeProperties;
+    private final ContentstackMetrics metrics;
+    private final Map<ContentstackEndpoint, LatencyWindow> latencies = new EnumMap<>(ContentstackEndpoint.class);
+
+    public UpstreamCallPolicy(ContentstackConfig config, ContentstackMetrics metrics) {
+        this.retryProperties = config.getRetry();
+        this.hedgeProperties = config.getHedge();
+        this.metrics = metrics;
+        for (ContentstackEndpoint endpoint : ContentstackEndpoint.values()) {
+            latencies.put(endpoint, new LatencyWindow(hedgeProperties.getWindowSize()));
+        }
+    }
+
+    /**
+     * @param attempt a lazy upstream call that can be subscribed to repeatedly
+     */
+    public <T> Mono<T> apply(ContentstackEndpoint endpoint, Mono<T> attempt) {
+        Mono<T> call = hedgeProperties.isEnabled() ? hedged(endpoint, attempt) : attempt;
+        if (!retryProperties.isEnabled() || retryProperties.getMaxRetries() <= 0) {
+            return call;
+        }
+        return call.retryWhen(retry(endpoint));
+    }
+
+    private <T> Mono<T> hedged(ContentstackEndpoint endpoint, Mono<T> attempt) {
+        LatencyWindow latency = latencies.get(endpoint);
+        Mono<T> primary = timed(latency, attempt);
+        return Mono.defer(() -> {
+            Duration delay = latency.percentile(hedgeProperties.getPercentile(), hedgeProperties.getMinSamples());
+            if (delay == null) {
+                return primary;
+            }
+            if (delay.compareTo(hedgeProperties.getMinDelay()) < 0) {
+                delay = hedgeProperties.getMinDelay();
+            }
+            Mono<T> hedge = Mono.delay(delay)
+                    .then(Mono.defer(() -> {
+                        metrics.hedged(endpoint);
+                        return timed(latency, attempt);
+                    }))
+                    .doOnSuccess(value -> metrics.hedgeWon(endpoint))
+                    // Only the primary decides the outcome of a failure
+                    .onErrorResume(error -> Mono.never());
+            return Mono.firstWithSignal(primary, hedge);
+        });
+    }
+
+    private static <T> Mono<T> timed(LatencyWindow latency, Mono<T> attempt) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return attempt.doOnSuccess(value -> latency.record(System.nanoTime() - start));
+        });
+    }
+
+    private RetryBackoffSpec retry(ContentstackEndpoint endpoint) {
+        return Retry.backoff(retryProperties.getMaxRetries(), retryProperties.getMinBackoff())
+                .maxBackoff(retryProperties.getMaxBackoff())
+                .jitter(retryProperties.getJitter())
+                .filter(UpstreamErrors::isTransient)
+                .doBeforeRetry(signal -> metrics.retried(endpoint))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    /**
+     * The latencies of the most recent successful calls, with the requested percentile
+     * recomputed at most once per {@value #RECOMPUTE_EVERY} samples.
+     */
+    private static final class LatencyWindow {
+
+        private static final int RECOMPUTE_EVERY = 16;
+
+        private final long[] samples;
+        private int next;
+        private int count;
+        private int sinceComputed = RECOMPUTE_EVERY;
+        private double computedPercentile;
+        private long computedNanos;
+
+        private LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+            sinceComputed++;
+        }
+
+        /**
+         * @return the percentile, or {@code null} until {@code minSamples} calls were recorded
+         */
+        synchronized Duration percentile(double percentile, int minSamples) {
+            if (count < minSamples || count == 0) {
+                return null;
+            }
+            if (sinceComputed >= RECOMPUTE_EVERY || percentile != computedPercentile) {
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                computedNanos = sorted[Math.max(0, Math.min(count - 1, (int) Math.ceil(percentile * count) - 1))];
+                computedPercentile = percentile;
+                sinceComputed = 0;
+            }
+            return Duration.ofNanos(computedNanos);
+        }
+    }
+}
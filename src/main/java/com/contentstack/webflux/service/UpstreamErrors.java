@@ -0,0 +1,47 @@
+package com.contentstack.webflux.service;
+
+import io.netty.channel.ConnectTimeoutException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Classification of upstream call failures.
+ */
+final class UpstreamErrors {
+
+    private UpstreamErrors() {
+    }
+
+    /**
+     * Failures that say the CDN or the network is struggling and may well succeed on another
+     * attempt: 5xx and 429 responses, connection and I/O errors, and timeouts. Other 4xx
+     * responses and decoding errors will fail the same way again.
+     */
+    static boolean isTransient(Throwable error) {
+        if (error instanceof WebClientResponseException responseError) {
+            return responseError.getStatusCode().is5xxServerError()
+                    || responseError.getStatusCode().value() == 429;
+        }
+        return error instanceof WebClientRequestException
+                || error instanceof TimeoutException
+                || error instanceof IOException;
+    }
+
+    /**
+     * Whether the call timed out: a Reactor {@code timeout()}, or a Netty connect, read or write
+     * timeout, which WebClient reports wrapped in a {@link WebClientRequestException}.
+     */
+    static boolean isTimeout(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException
+                    || cause instanceof io.netty.handler.timeout.TimeoutException
+                    || cause instanceof ConnectTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
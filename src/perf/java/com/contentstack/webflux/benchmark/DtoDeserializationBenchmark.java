@@ -0,0 +1,92 @@
+package com.contentstack.webflux.benchmark;
+
+import com.contentstack.webflux.dto.ContentstackPageResponse;
+import com.contentstack.webflux.dto.FeatureFlagConfigResponse;
+import com.contentstack.webflux.dto.NavigationResponse;
+import com.contentstack.webflux.dto.PersonalizeConfigResponse;
+import com.contentstack.webflux.dto.WebConfigResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson binding throughput for every Contentstack response DTO. Run with {@code -prof gc}
+ * (the default in the {@code perf} profile) to get the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoDeserializationBenchmark {
+
+    @Param({"small", "medium", "huge"})
+    public String size;
+
+    private ObjectReader pageReader;
+    private ObjectReader navigationReader;
+    private ObjectReader webConfigReader;
+    private ObjectReader featureFlagReader;
+    private ObjectReader personalizeReader;
+
+    private byte[] page;
+    private byte[] navigation;
+    private byte[] webConfig;
+    private byte[] featureFlag;
+    private byte[] personalize;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = Fixtures.objectMapper();
+        pageReader = mapper.readerFor(ContentstackPageResponse.class);
+        navigationReader = mapper.readerFor(NavigationResponse.class);
+        webConfigReader = mapper.readerFor(WebConfigResponse.class);
+        featureFlagReader = mapper.readerFor(FeatureFlagConfigResponse.class);
+        personalizeReader = mapper.readerFor(PersonalizeConfigResponse.class);
+
+        page = Fixtures.load("page", size);
+        navigation = Fixtures.load("navigation", size);
+        webConfig = Fixtures.load("web-config", size);
+        featureFlag = Fixtures.load("feature-flag", size);
+        personalize = Fixtures.load("personalize", size);
+    }
+
+    @Benchmark
+    public ContentstackPageResponse pageResponse() throws IOException {
+        return pageReader.readValue(page);
+    }
+
+    @Benchmark
+    public NavigationResponse navigationResponse() throws IOException {
+        return navigationReader.readValue(navigation);
+    }
+
+    @Benchmark
+    public WebConfigResponse webConfigResponse() throws IOException {
+        return webConfigReader.readValue(webConfig);
+    }
+
+    @Benchmark
+    public FeatureFlagConfigResponse featureFlagConfigResponse() throws IOException {
+        return featureFlagReader.readValue(featureFlag);
+    }
+
+    @Benchmark
+    public PersonalizeConfigResponse personalizeConfigResponse() throws IOException {
+        return personalizeReader.readValue(personalize);
+    }
+}
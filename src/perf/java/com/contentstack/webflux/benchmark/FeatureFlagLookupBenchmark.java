@@ -0,0 +1,72 @@
+package com.contentstack.webflux.benchmark;
+
+import com.contentstack.webflux.dto.FeatureFlagConfigResponse;
+import com.contentstack.webflux.dto.FeatureFlags;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading one boolean and one numeric flag per request from the medium feature flag fixture:
+ * through the merged {@code HashMap}, as clients of {@code /feature-flag-config} did, against the
+ * compiled {@link FeatureFlags} snapshot. Also the one-off cost of compiling the snapshot.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeatureFlagLookupBenchmark {
+
+    private FeatureFlagConfigResponse.Entry entry;
+    private Map<String, Object> mergedConfig;
+    private FeatureFlags flags;
+    // Not constants, so the JIT cannot fold the lookups
+    private String booleanKey = "enable_feature_57";
+    private String numberKey = "limit_31";
+
+    @Setup
+    public void setUp() throws IOException {
+        FeatureFlagConfigResponse response = Fixtures.objectMapper()
+                .readValue(Fixtures.load("feature-flag", "medium"), FeatureFlagConfigResponse.class);
+        entry = response.getEntries().get(0);
+        mergedConfig = entry.getMergedConfig();
+        flags = FeatureFlags.compile(entry);
+        if (!flags.contains(booleanKey) || !flags.contains(numberKey)) {
+            throw new IllegalStateException("Fixture lacks " + booleanKey + " or " + numberKey);
+        }
+    }
+
+    @Benchmark
+    public void mergedMap(Blackhole blackhole) {
+        Object enabled = mergedConfig.get(booleanKey);
+        blackhole.consume(enabled instanceof Boolean bool && bool);
+        Object limit = mergedConfig.get(numberKey);
+        blackhole.consume(limit instanceof Number number ? number.longValue() : 0L);
+    }
+
+    @Benchmark
+    public void snapshot(Blackhole blackhole) {
+        blackhole.consume(flags.getBoolean(booleanKey, false));
+        blackhole.consume(flags.getLong(numberKey, 0L));
+    }
+
+    @Benchmark
+    public FeatureFlags compile() {
+        entry.setMergedConfig(null);
+        return FeatureFlags.compile(entry);
+    }
+}
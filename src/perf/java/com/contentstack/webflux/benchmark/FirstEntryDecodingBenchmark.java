@@ -0,0 +1,131 @@
+package com.contentstack.webflux.benchmark;
+
+import com.contentstack.webflux.config.ContentstackConfig;
+import com.contentstack.webflux.dto.ContentstackPageResponse;
+import com.contentstack.webflux.dto.NavigationResponse;
+import com.contentstack.webflux.service.FirstEntryDecoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FirstEntryDecoder} against binding the whole response and taking {@code entries[0]},
+ * which is what every fetch did before. Bodies are split into 8 KiB Netty buffers like a socket read.
+ * <p>
+ * {@code typedPageResponse} and {@code passthroughPage} compare the two ways {@code /entries} can
+ * produce its response body: decode and re-encode the entry, or slice its bytes out of the response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FirstEntryDecodingBenchmark {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private static final NettyDataBufferFactory BUFFER_FACTORY = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+
+    @Param({"medium", "huge"})
+    public String size;
+
+    private ObjectReader pageReader;
+    private ObjectReader navigationReader;
+    private ObjectWriter pageEntryWriter;
+    private FirstEntryDecoder decoder;
+    private byte[] page;
+    private byte[] navigation;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = Fixtures.objectMapper();
+        pageReader = mapper.readerFor(ContentstackPageResponse.class);
+        navigationReader = mapper.readerFor(NavigationResponse.class);
+        pageEntryWriter = mapper.writerFor(ContentstackPageResponse.Entry.class);
+        decoder = new FirstEntryDecoder(mapper, new ContentstackConfig());
+        page = Fixtures.load("page", size);
+        navigation = Fixtures.load("navigation", size);
+
+        if (!fullPage().equals(streamingPage()) || !fullNavigation().equals(streamingNavigation())) {
+            throw new IllegalStateException("Streaming decode differs from full binding");
+        }
+        byte[] passthrough = new byte[passthroughPage()];
+        int offset = 0;
+        for (DataBuffer slice : decoder.extract(chunks(page)).toIterable()) {
+            int length = slice.readableByteCount();
+            slice.read(passthrough, offset, length);
+            offset += length;
+            DataBufferUtils.release(slice);
+        }
+        if (!mapper.readValue(passthrough, ContentstackPageResponse.Entry.class).equals(streamingPage())) {
+            throw new IllegalStateException("Passthrough bytes differ from the first entry");
+        }
+    }
+
+    @Benchmark
+    public ContentstackPageResponse.Entry fullPage() throws IOException {
+        return pageReader.<ContentstackPageResponse>readValue(page).getEntries().get(0);
+    }
+
+    @Benchmark
+    public ContentstackPageResponse.Entry streamingPage() {
+        return decoder.decode(chunks(page), ContentstackPageResponse.Entry.class).block();
+    }
+
+    @Benchmark
+    public byte[] typedPageResponse() throws IOException {
+        return pageEntryWriter.writeValueAsBytes(streamingPage());
+    }
+
+    @Benchmark
+    public int passthroughPage() {
+        int length = 0;
+        for (DataBuffer slice : decoder.extract(chunks(page)).toIterable()) {
+            length += slice.readableByteCount();
+            DataBufferUtils.release(slice);
+        }
+        return length;
+    }
+
+    @Benchmark
+    public NavigationResponse.Entry fullNavigation() throws IOException {
+        return navigationReader.<NavigationResponse>readValue(navigation).getEntries().get(0);
+    }
+
+    @Benchmark
+    public NavigationResponse.Entry streamingNavigation() {
+        return decoder.decode(chunks(navigation), NavigationResponse.Entry.class).block();
+    }
+
+    private static Flux<DataBuffer> chunks(byte[] body) {
+        List<DataBuffer> buffers = new ArrayList<>(body.length / CHUNK_SIZE + 1);
+        for (int offset = 0; offset < body.length; offset += CHUNK_SIZE) {
+            int length = Math.min(CHUNK_SIZE, body.length - offset);
+            buffers.add(BUFFER_FACTORY.wrap(Unpooled.wrappedBuffer(body, offset, length)));
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
@@ -0,0 +1,67 @@
+package com.contentstack.webflux.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Recorded Contentstack CDA payloads under {@code src/perf/resources/fixtures}.
+ * <p>
+ * {@code small} and {@code medium} are read as-is; {@code huge} is the medium payload with its
+ * entries repeated {@link #HUGE_REPETITIONS} times, which is what an unbounded entries query
+ * with deep includes returns for large content types.
+ */
+public final class Fixtures {
+
+    public static final int HUGE_REPETITIONS = 40;
+
+    private Fixtures() {
+    }
+
+    /**
+     * The object mapper configured the way Spring Boot configures the application's one.
+     */
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    /**
+     * @param name fixture base name, e.g. {@code navigation}
+     * @param size {@code small}, {@code medium} or {@code huge}
+     */
+    public static byte[] load(String name, String size) {
+        if (!"huge".equals(size)) {
+            return read("/fixtures/" + name + "-" + size + ".json");
+        }
+        try {
+            ObjectMapper mapper = objectMapper();
+            ObjectNode root = (ObjectNode) mapper.readTree(read("/fixtures/" + name + "-medium.json"));
+            ArrayNode entries = (ArrayNode) root.get("entries");
+            ArrayNode repeated = mapper.createArrayNode();
+            for (int i = 0; i < HUGE_REPETITIONS; i++) {
+                repeated.addAll(entries.deepCopy());
+            }
+            root.set("entries", repeated);
+            root.put("count", repeated.size());
+            return mapper.writeValueAsBytes(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] read(String resource) {
+        try (InputStream in = Fixtures.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Missing fixture " + resource);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
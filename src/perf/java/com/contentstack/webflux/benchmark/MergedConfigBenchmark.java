@@ -0,0 +1,49 @@
+package com.contentstack.webflux.benchmark;
+
+import com.contentstack.webflux.dto.FeatureFlagConfigResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link FeatureFlagConfigResponse.Entry#getMergedConfig()} on a freshly fetched entry.
+ * The memoized map is cleared before each call so every invocation does the full merge.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MergedConfigBenchmark {
+
+    @Param({"small", "medium"})
+    public String size;
+
+    private FeatureFlagConfigResponse.Entry entry;
+
+    @Setup
+    public void setUp() throws IOException {
+        FeatureFlagConfigResponse response = Fixtures.objectMapper()
+                .readValue(Fixtures.load("feature-flag", size), FeatureFlagConfigResponse.class);
+        entry = response.getEntries().get(0);
+    }
+
+    @Benchmark
+    public Map<String, Object> mergedConfig() {
+        entry.setMergedConfig(null);
+        return entry.getMergedConfig();
+    }
+}
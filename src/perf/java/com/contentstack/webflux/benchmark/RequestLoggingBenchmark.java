@@ -0,0 +1,142 @@
+package com.contentstack.webflux.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.contentstack.webflux.config.ContentstackConfig;
+import com.contentstack.webflux.controller.RequestLogFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logging cost per request: the seven {@code log.info} lines a cache hit on {@code /entries}
+ * used to write synchronously, against {@link RequestLogFilter} at several sample rates. Both
+ * write through Spring Boot's console pattern to a discarding stream, so the numbers are
+ * formatting and appender overhead without terminal I/O; on a real console the gap widens.
+ * {@code perRequestInfoLines} does not depend on {@code sampleRate}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+    private static final String PATTERN =
+            "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p ${PID:- } --- [%15.15t] %-40.40logger{39} : %m%n";
+    private static final String LEGACY_LOGGER = "com.contentstack.webflux.service.ContentstackClientService";
+
+    @Param({"0.0", "0.01", "1.0"})
+    public double sampleRate;
+
+    private final org.slf4j.Logger legacyLog = LoggerFactory.getLogger(LEGACY_LOGGER);
+    private final WebFilterChain chain = exchange -> {
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        return Mono.empty();
+    };
+    private RequestLogFilter filter;
+    private AsyncAppender asyncAppender;
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        route(context, LEGACY_LOGGER, discarding(context));
+        asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setDiscardingThreshold(0);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.addAppender(discarding(context));
+        asyncAppender.start();
+        route(context, RequestLogFilter.LOGGER, asyncAppender);
+
+        ContentstackConfig config = new ContentstackConfig();
+        config.getRequestLog().setSampleRate(sampleRate);
+        filter = new RequestLogFilter(config);
+    }
+
+    @TearDown
+    public void tearDown() {
+        asyncAppender.stop();
+    }
+
+    @Benchmark
+    public void perRequestInfoLines() {
+        String contentTypeUid = "home_page";
+        legacyLog.info("Received request to fetch entries for content type: {}", contentTypeUid);
+        legacyLog.info("Fetching entries for content type: {}, locale: {}, variant: {}", contentTypeUid, "en-us", null);
+        legacyLog.info("Environment: {}", "production");
+        legacyLog.info("Base URL: {}", "https://cdn.contentstack.io/v3");
+        legacyLog.info("Found {} entries, using first entry", 1);
+        legacyLog.info("Successfully extracted page entry");
+        legacyLog.info("Successfully fetched entries for content type: {}", contentTypeUid);
+    }
+
+    @Benchmark
+    public void sampledRequestLog(ExchangeState state) {
+        filter.filter(state.exchange, chain).block();
+    }
+
+    /**
+     * One exchange per thread, reused: building a mock exchange per invocation would cost more
+     * than what is measured.
+     */
+    @State(Scope.Thread)
+    public static class ExchangeState {
+
+        MockServerWebExchange exchange;
+
+        @Setup
+        public void setUp() {
+            exchange = MockServerWebExchange.from(
+                    MockServerHttpRequest.get("/api/contentstack/entries?contentTypeUid=home_page&locale=en-us"));
+        }
+    }
+
+    private static Appender<ILoggingEvent> discarding(LoggerContext context) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+
+    private static void route(LoggerContext context, String name, Appender<ILoggingEvent> appender) {
+        Logger logger = context.getLogger(name);
+        logger.detachAndStopAllAppenders();
+        logger.setAdditive(false);
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logger.addAppender(appender);
+    }
+}
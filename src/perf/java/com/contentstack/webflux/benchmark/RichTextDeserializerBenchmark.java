@@ -0,0 +1,59 @@
+package com.contentstack.webflux.benchmark;
+
+import com.contentstack.webflux.dto.ContentstackPageResponse;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ContentstackPageResponse.RichTextDeserializer} for both shapes Contentstack sends:
+ * an HTML string and a JSON RTE document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RichTextDeserializerBenchmark {
+
+    private static final String HTML = "\"<p>Free shipping on orders over <b>$50</b>. <a href=\\\"/shipping\\\">Details</a></p>\"";
+
+    private static final String JSON_RTE = "{\"type\":\"doc\",\"uid\":\"a1b2c3\",\"attrs\":{},\"children\":["
+            + "{\"type\":\"p\",\"uid\":\"d4e5f6\",\"attrs\":{},\"children\":["
+            + "{\"text\":\"Free shipping on orders over \"},{\"text\":\"$50\",\"bold\":true},{\"text\":\". \"},"
+            + "{\"type\":\"a\",\"uid\":\"g7h8i9\",\"attrs\":{\"url\":\"/shipping\"},\"children\":[{\"text\":\"Details\"}]}]}]}";
+
+    private ObjectReader reader;
+    private byte[] html;
+    private byte[] jsonRte;
+
+    @Setup
+    public void setUp() {
+        reader = Fixtures.objectMapper().readerFor(ContentstackPageResponse.RichText.class);
+        html = HTML.getBytes(StandardCharsets.UTF_8);
+        jsonRte = JSON_RTE.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ContentstackPageResponse.RichText htmlString() throws IOException {
+        return reader.readValue(html);
+    }
+
+    @Benchmark
+    public ContentstackPageResponse.RichText jsonRteDocument() throws IOException {
+        return reader.readValue(jsonRte);
+    }
+}
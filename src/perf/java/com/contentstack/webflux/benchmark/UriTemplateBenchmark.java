@@ -0,0 +1,74 @@
+package com.contentstack.webflux.benchmark;
+
+import com.contentstack.webflux.config.ContentstackConfig;
+import com.contentstack.webflux.service.ContentstackEndpoint;
+import com.contentstack.webflux.service.ContentstackIncludes;
+import com.contentstack.webflux.service.ContentstackUriTemplates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the {@code /entries} request URI for a page: {@link UriComponentsBuilder} plus the
+ * WebClient's own template encoding of the resulting string, as every fetch did before, against
+ * expanding a {@link ContentstackUriTemplates} template.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UriTemplateBenchmark {
+
+    private static final String BASE_URL = "https://cdn.contentstack.io/v3";
+    private static final String ENVIRONMENT = "production";
+
+    private final DefaultUriBuilderFactory uriBuilderFactory = new DefaultUriBuilderFactory();
+    private ContentstackUriTemplates uriTemplates;
+
+    @Setup
+    public void setUp() {
+        ContentstackConfig config = new ContentstackConfig();
+        config.getApi().setBaseUrl(BASE_URL);
+        config.setEnvironment(ENVIRONMENT);
+        uriTemplates = new ContentstackUriTemplates(config);
+
+        if (!uriBuilder().equals(template())) {
+            throw new IllegalStateException("Template URI differs: " + template() + " vs " + uriBuilder());
+        }
+    }
+
+    @Benchmark
+    public URI uriBuilder() {
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder
+                .fromUriString(BASE_URL)
+                .path("/content_types/{contentTypeUid}/entries");
+        uriBuilder.queryParam("environment", ENVIRONMENT);
+        uriBuilder.queryParam("limit", 1);
+        uriBuilder.queryParam("locale", "en-us");
+        uriBuilder.queryParam("variant", "cs_personalize_0_1");
+        for (String include : ContentstackIncludes.WEB_LANDING_PAGE_REFERENCE_INCLUDES) {
+            uriBuilder.queryParam("include[]", include);
+        }
+        String uri = uriBuilder.buildAndExpand("landing_page").toUriString();
+        return uriBuilderFactory.expand(uri);
+    }
+
+    @Benchmark
+    public URI template() {
+        return URI.create(uriTemplates.expand(ContentstackEndpoint.ENTRIES, "landing_page", "en-us", "cs_personalize_0_1"));
+    }
+}
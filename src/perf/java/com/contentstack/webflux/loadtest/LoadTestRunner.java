@@ -0,0 +1,222 @@
+package com.contentstack.webflux.loadtest;
+
+import com.contentstack.webflux.ContentStackWebfluxApplication;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Offline end-to-end load test. Boots the application against {@link MockContentstackCdn}
+ * and drives every {@code ContentstackController} endpoint at a fixed concurrency, reporting
+ * throughput, latency percentiles and allocation per request.
+ * <p>
+ * A baseline phase first calls the mock CDN directly; the difference between an endpoint's
+ * latency and the baseline is the application's own overhead. Allocation is measured on the
+ * application's Reactor Netty event loop threads ({@code reactor-http-*}) only, since the driver
+ * and the mock CDN run on loops of their own.
+ * <p>
+ * Settings are read from system properties: {@code loadtest.concurrency}, {@code loadtest.duration},
+ * {@code loadtest.warmup}, {@code loadtest.fixture-size} ({@code small} or {@code medium}),
+ * {@code loadtest.cdn.latency}, {@code loadtest.cdn.jitter} and {@code loadtest.cdn.error-rate}.
+ * Any {@code contentstack.*} system property is applied to the application as usual.
+ */
+public final class LoadTestRunner {
+
+    private static final String APP_EVENT_LOOP_PREFIX = "reactor-http-";
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "tbw_web_config", "web-config",
+            "navigation_config", "navigation",
+            "feature_flag", "feature-flag",
+            "personalize_config", "personalize",
+            "landing_page", "page");
+
+    private static final Map<String, String> ENDPOINTS = new LinkedHashMap<>();
+
+    static {
+        ENDPOINTS.put("web-config", "/api/contentstack/web-config?contentTypeUid=tbw_web_config&locale=en");
+        ENDPOINTS.put("navigation-config", "/api/contentstack/navigation-config?contentTypeUid=navigation_config&locale=en");
+        ENDPOINTS.put("feature-flag-config", "/api/contentstack/feature-flag-config?contentTypeUid=feature_flag&locale=en");
+        ENDPOINTS.put("personalized-config", "/api/contentstack/personalized-config?contentTypeUid=personalize_config&locale=en");
+        ENDPOINTS.put("entries", "/api/contentstack/entries?contentTypeUid=landing_page&locale=en");
+    }
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) {
+        int concurrency = Integer.getInteger("loadtest.concurrency", 64);
+        Duration duration = duration("loadtest.duration", "20s");
+        Duration warmup = duration("loadtest.warmup", "5s");
+        String fixtureSize = System.getProperty("loadtest.fixture-size", "medium");
+        Duration latency = duration("loadtest.cdn.latency", "20ms");
+        Duration jitter = duration("loadtest.cdn.jitter", "5ms");
+        double errorRate = Double.parseDouble(System.getProperty("loadtest.cdn.error-rate", "0"));
+
+        Map<String, String> fixtures = new LinkedHashMap<>();
+        CONTENT_TYPES.forEach((uid, name) -> fixtures.put(uid, "/fixtures/" + name + "-" + fixtureSize + ".json"));
+
+        LoopResources driverLoops = LoopResources.create("loadtest-driver", 2, true);
+        ConnectionProvider driverPool = ConnectionProvider.builder("loadtest-driver")
+                .maxConnections(concurrency)
+                .pendingAcquireMaxCount(-1)
+                .build();
+
+        try (MockContentstackCdn cdn = new MockContentstackCdn(fixtures, latency, jitter, errorRate);
+             ConfigurableApplicationContext app = new SpringApplicationBuilder(ContentStackWebfluxApplication.class)
+                     .run("--server.port=0",
+                             "--contentstack.api.base-url=" + cdn.baseUrl(),
+                             "--logging.level.com.contentstack=WARN",
+                             "--spring.devtools.restart.enabled=false")) {
+
+            String appBaseUrl = "http://127.0.0.1:" + app.getEnvironment().getProperty("local.server.port");
+            HttpClient driver = HttpClient.create(driverPool).runOn(driverLoops);
+
+            System.out.printf("Load test: concurrency=%d duration=%s warmup=%s fixtures=%s cdn latency=%s jitter=%s error-rate=%.3f%n%n",
+                    concurrency, duration, warmup, fixtureSize, latency, jitter, errorRate);
+
+            List<Result> results = new ArrayList<>();
+            String baselineUri = cdn.baseUrl() + "/content_types/navigation_config/entries";
+            results.add(run("cdn-baseline", driver.baseUrl(""), baselineUri, concurrency, warmup, duration, cdn));
+            for (Map.Entry<String, String> endpoint : ENDPOINTS.entrySet()) {
+                results.add(run(endpoint.getKey(), driver.baseUrl(appBaseUrl), endpoint.getValue(),
+                        concurrency, warmup, duration, cdn));
+            }
+
+            printReport(results);
+        } finally {
+            driverPool.dispose();
+            driverLoops.dispose();
+        }
+    }
+
+    private static Result run(String name, HttpClient client, String uri, int concurrency,
+                              Duration warmup, Duration duration, MockContentstackCdn cdn) {
+        drive(client, uri, concurrency, warmup, new ConcurrentHistogram(3), new AtomicLong(), new AtomicLong());
+
+        Histogram histogram = new ConcurrentHistogram(TimeUnit.SECONDS.toMicros(60), 3);
+        AtomicLong errors = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+        long cdnRequestsBefore = cdn.requestCount();
+        long allocatedBefore = appEventLoopAllocatedBytes();
+        long start = System.nanoTime();
+
+        drive(client, uri, concurrency, duration, histogram, errors, failures);
+
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = appEventLoopAllocatedBytes() - allocatedBefore;
+        return new Result(name, histogram, histogram.getTotalCount() + failures.get(), errors.get() + failures.get(),
+                elapsedNanos, allocated, cdn.requestCount() - cdnRequestsBefore);
+    }
+
+    /**
+     * Issues requests from {@code concurrency} closed-loop workers until {@code duration} elapses.
+     * Responses of any status are recorded in {@code histogram}; statuses of 400 and above count
+     * as {@code errors}, and requests that got no response at all as {@code failures}.
+     */
+    private static void drive(HttpClient client, String uri, int concurrency, Duration duration,
+                              Histogram histogram, AtomicLong errors, AtomicLong failures) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        Flux.range(0, concurrency)
+                .flatMap(worker -> Mono.defer(() -> {
+                            long start = System.nanoTime();
+                            return client.get()
+                                    .uri(uri)
+                                    .responseSingle((response, body) -> body.asByteArray()
+                                            .defaultIfEmpty(new byte[0])
+                                            .map(bytes -> response.status().code()))
+                                    .doOnNext(status -> {
+                                        histogram.recordValue(Math.max(1, (System.nanoTime() - start) / 1000));
+                                        if (status >= 400) {
+                                            errors.incrementAndGet();
+                                        }
+                                    })
+                                    .onErrorResume(error -> {
+                                        failures.incrementAndGet();
+                                        return Mono.empty();
+                                    });
+                        })
+                        .repeat(() -> System.nanoTime() < deadline)
+                        .then(), concurrency)
+                .blockLast();
+    }
+
+    /**
+     * Bytes allocated so far by the application's event loop threads, which serve both the
+     * inbound requests and the outbound Contentstack calls.
+     */
+    private static long appEventLoopAllocatedBytes() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] ids = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith(APP_EVENT_LOOP_PREFIX))
+                .mapToLong(Thread::getId)
+                .toArray();
+        long total = 0;
+        for (long allocated : threads.getThreadAllocatedBytes(ids)) {
+            if (allocated > 0) {
+                total += allocated;
+            }
+        }
+        return total;
+    }
+
+    private static void printReport(List<Result> results) {
+        System.out.printf("%-20s %10s %10s %9s %9s %9s %9s %8s %12s %9s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors", "alloc B/req", "cdn reqs");
+        double baselineP50 = results.get(0).histogram.getValueAtPercentile(50) / 1000.0;
+        for (Result result : results) {
+            Histogram h = result.histogram;
+            long requests = result.requests;
+            System.out.printf("%-20s %10d %10.0f %9.2f %9.2f %9.2f %9.2f %8d %12s %9d%n",
+                    result.name,
+                    requests,
+                    requests / (result.elapsedNanos / 1e9),
+                    h.getValueAtPercentile(50) / 1000.0,
+                    h.getValueAtPercentile(99) / 1000.0,
+                    h.getValueAtPercentile(99.9) / 1000.0,
+                    h.getMaxValue() / 1000.0,
+                    result.errors,
+                    result.name.equals("cdn-baseline") ? "-" : String.valueOf(requests > 0 ? result.allocatedBytes / requests : 0),
+                    result.cdnRequests);
+        }
+        System.out.println();
+        for (Result result : results.subList(1, results.size())) {
+            System.out.printf("%-20s p50 overhead over CDN baseline: %.2f ms%n",
+                    result.name, result.histogram.getValueAtPercentile(50) / 1000.0 - baselineP50);
+        }
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        String value = System.getProperty(property, defaultValue).trim().toLowerCase();
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofMillis(Long.parseLong(value));
+    }
+
+    private record Result(String name, Histogram histogram, long requests, long errors, long elapsedNanos,
+                          long allocatedBytes, long cdnRequests) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.contentstack.webflux.loadtest;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Local stand-in for the Contentstack CDN. Serves recorded fixtures for
+ * {@code GET /v3/content_types/{uid}/entries}, picking the fixture by content type UID, with
+ * configurable latency, jitter and error rate. Runs on its own event loop so its work is not
+ * attributed to the application under test.
+ */
+public final class MockContentstackCdn implements AutoCloseable {
+
+    private final DisposableServer server;
+    private final LoopResources loops;
+    private final AtomicLong requests = new AtomicLong();
+
+    /**
+     * @param fixtures       content type UID to fixture resource, e.g. {@code /fixtures/navigation-medium.json}
+     * @param latency        base response delay
+     * @param jitter         upper bound of a uniformly distributed extra delay
+     * @param errorRate      fraction of requests answered with HTTP 503, between 0 and 1
+     */
+    public MockContentstackCdn(Map<String, String> fixtures, Duration latency, Duration jitter, double errorRate) {
+        Map<String, byte[]> bodies = fixtures.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> read(e.getValue())));
+        this.loops = LoopResources.create("mock-cdn", 2, true);
+        this.server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .runOn(loops)
+                .route(routes -> routes.get("/v3/content_types/{uid}/entries", (request, response) -> {
+                    requests.incrementAndGet();
+                    byte[] body = bodies.get(request.param("uid"));
+                    if (body == null) {
+                        return response.status(HttpResponseStatus.NOT_FOUND).send();
+                    }
+                    long delayMicros = latency.toNanos() / 1000;
+                    if (!jitter.isZero()) {
+                        delayMicros += ThreadLocalRandom.current().nextLong(jitter.toNanos() / 1000 + 1);
+                    }
+                    boolean fail = ThreadLocalRandom.current().nextDouble() < errorRate;
+                    Mono<Void> send = fail
+                            ? response.status(HttpResponseStatus.SERVICE_UNAVAILABLE).send()
+                            : response.header("Content-Type", "application/json")
+                                      .sendByteArray(Mono.just(body)).then();
+                    return delayMicros > 0
+                            ? Mono.delay(Duration.ofNanos(delayMicros * 1000)).then(send)
+                            : send;
+                }))
+                .bindNow();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.port() + "/v3";
+    }
+
+    public long requestCount() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+        loops.dispose();
+    }
+
+    private static byte[] read(String resource) {
+        try (InputStream in = MockContentstackCdn.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Missing fixture " + resource);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
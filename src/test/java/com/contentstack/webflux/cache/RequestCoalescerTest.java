@@ -0,0 +1,102 @@
+package com.contentstack.webflux.cache;
+
+import com.contentstack.webflux.service.ContentstackEndpoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCoalescerTest {
+
+    private static final CacheKey KEY = key("en", null);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescer coalescer = new RequestCoalescer(meterRegistry);
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final Sinks.One<String> upstream = Sinks.one();
+
+    @Test
+    void concurrentSubscribersShareOneFetch() {
+        AtomicReference<String> first = new AtomicReference<>();
+        AtomicReference<String> second = new AtomicReference<>();
+        coalescer.execute(KEY, this::fetch).subscribe(first::set);
+        coalescer.execute(key("en", "ignored-by-template"), this::fetch).subscribe(second::set);
+
+        upstream.tryEmitValue("entry");
+
+        assertThat(first).hasValue("entry");
+        assertThat(second).hasValue("entry");
+        assertThat(fetches).hasValue(1);
+        assertThat(meterRegistry.get("contentstack.requests.coalesced").counter().count()).isEqualTo(1);
+        assertThat(inFlightKeys()).isZero();
+    }
+
+    @Test
+    void differentUrisAreNotShared() {
+        coalescer.execute(KEY, this::fetch).subscribe();
+        coalescer.execute(key("fr", null), this::fetch).subscribe();
+
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    void keepsFetchWhileOneSubscriberRemains() {
+        AtomicReference<String> remaining = new AtomicReference<>();
+        Disposable leaving = coalescer.execute(KEY, this::fetch).subscribe();
+        coalescer.execute(KEY, this::fetch).subscribe(remaining::set);
+
+        leaving.dispose();
+        assertThat(inFlightKeys()).isEqualTo(1);
+        upstream.tryEmitValue("entry");
+
+        assertThat(remaining).hasValue("entry");
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    void removesFetchCancelledByEverySubscriber() {
+        AtomicInteger cancelled = new AtomicInteger();
+        Disposable first = coalescer.execute(KEY, () -> fetch().doOnCancel(cancelled::incrementAndGet)).subscribe();
+        Disposable second = coalescer.execute(KEY, this::fetch).subscribe();
+
+        first.dispose();
+        second.dispose();
+
+        assertThat(cancelled).as("upstream cancellations").hasValue(1);
+        assertThat(inFlightKeys()).isZero();
+        coalescer.execute(KEY, this::fetch).subscribe();
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    void removesFailedFetch() {
+        StepVerifier.create(coalescer.execute(KEY, () -> Mono.<String>error(new IOException("Connection reset"))))
+                .expectError(IOException.class)
+                .verify();
+
+        assertThat(inFlightKeys()).isZero();
+        StepVerifier.create(coalescer.execute(KEY, () -> Mono.just("entry"))).expectNext("entry").verifyComplete();
+    }
+
+    private Mono<String> fetch() {
+        fetches.incrementAndGet();
+        return upstream.asMono();
+    }
+
+    private double inFlightKeys() {
+        return meterRegistry.get("contentstack.requests.inflight.keys").gauge().value();
+    }
+
+    private static CacheKey key(String locale, String variant) {
+        return new CacheKey(ContentstackEndpoint.WEB_CONFIG, "web_config", locale, variant,
+                "/content_types/web_config/entries?environment=production&locale=" + locale);
+    }
+}
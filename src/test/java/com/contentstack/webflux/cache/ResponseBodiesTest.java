@@ -0,0 +1,78 @@
+package com.contentstack.webflux.cache;
+
+import com.contentstack.webflux.config.ContentstackConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseBodiesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResponseBodies responseBodies = new ResponseBodies(objectMapper, config(), meterRegistry);
+
+    @Test
+    void keepsBytesOfRegisteredBodies() throws Exception {
+        Map<String, Object> body = body();
+        byte[] serialized = objectMapper.writeValueAsBytes(body);
+        responseBodies.register(body, serialized);
+
+        assertThat(responseBodies.serialized(body)).isSameAs(serialized);
+        assertThat(responseBodies.gzipped(body)).isNotNull();
+        assertThat(responseBodies.gzipped(body)).isSameAs(responseBodies.gzipped(body));
+    }
+
+    @Test
+    void onlyTagsOtherBodies() {
+        Map<String, Object> body = body();
+
+        assertThat(responseBodies.etagFor(body)).isNotBlank();
+        assertThat(responseBodies.serialized(body)).isNull();
+        assertThat(responseBodies.gzipped(body)).isNull();
+        assertThat(weight()).isZero();
+    }
+
+    @Test
+    void givesEqualBodiesTheSameTag() throws Exception {
+        Map<String, Object> registered = body();
+        responseBodies.register(registered, objectMapper.writeValueAsBytes(registered));
+
+        assertThat(responseBodies.etagFor(body())).isEqualTo(responseBodies.etagFor(registered));
+    }
+
+    @Test
+    void derivesTagsOfPartsFromTheWhole() {
+        Map<String, Object> whole = body();
+        Map<String, Object> part = Map.of("uid", "web_config");
+        String wholeEtag = responseBodies.etagFor(whole);
+
+        String etag = responseBodies.etagFor(whole, "uid");
+
+        assertThat(etag).startsWith(wholeEtag.substring(0, wholeEtag.length() - 1) + "-");
+        assertThat(etag).isEqualTo(responseBodies.etagFor(body(), "uid"));
+        assertThat(etag).isNotEqualTo(responseBodies.etagFor(whole, "text"));
+        assertThat(responseBodies.serialized(part)).isNull();
+    }
+
+    private double weight() {
+        return meterRegistry.get(ResponseBodies.WEIGHT).gauge().value();
+    }
+
+    private static Map<String, Object> body() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("uid", "web_config");
+        body.put("text", "x".repeat(2048));
+        return body;
+    }
+
+    private static ContentstackConfig config() {
+        ContentstackConfig config = new ContentstackConfig();
+        config.getResponses().setCompressionMinSize(16);
+        return config;
+    }
+}
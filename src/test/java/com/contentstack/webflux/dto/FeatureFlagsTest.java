@@ -0,0 +1,127 @@
+package com.contentstack.webflux.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class FeatureFlagsTest {
+
+    private final FeatureFlags flags = FeatureFlags.of(flags());
+
+    @Test
+    void readsValuesOfEachKind() {
+        assertThat(flags.getBoolean("enable_search", false)).isTrue();
+        assertThat(flags.getLong("max_items", 0)).isEqualTo(50);
+        assertThat(flags.getLong("big_number", 0)).isEqualTo(Long.MAX_VALUE);
+        assertThat(flags.getDouble("ratio", 0)).isEqualTo(0.25);
+        assertThat(flags.getDouble("max_items", 0)).isEqualTo(50.0);
+        assertThat(flags.getString("banner", null)).isEqualTo("spring");
+        assertThat(flags.get("huge")).isEqualTo(BigInteger.TEN.pow(20));
+        assertThat(flags.get("nothing")).isNull();
+        assertThat(flags.contains("nothing")).isTrue();
+    }
+
+    @Test
+    void fallsBackToTheDefaultForMissingFlagsAndOtherKinds() {
+        assertThat(flags.getBoolean("missing", true)).isTrue();
+        assertThat(flags.getBoolean("max_items", true)).isTrue();
+        assertThat(flags.getLong("ratio", -1)).isEqualTo(-1);
+        assertThat(flags.getLong("enable_search", -1)).isEqualTo(-1);
+        assertThat(flags.getDouble("banner", -1)).isEqualTo(-1);
+        assertThat(flags.getDouble("huge", -1)).isEqualTo(-1);
+        assertThat(flags.getString("max_items", "none")).isEqualTo("none");
+        assertThat(flags.get("missing")).isNull();
+        assertThat(flags.get(null)).isNull();
+        assertThat(flags.contains("missing")).isFalse();
+        assertThat(FeatureFlags.EMPTY.getLong("max_items", 7)).isEqualTo(7);
+        assertThat(FeatureFlags.of(null)).isSameAs(FeatureFlags.EMPTY);
+    }
+
+    @Test
+    void findsFlagsWhoseNamesCollide() {
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        Map<String, Object> colliding = new HashMap<>();
+        colliding.put("Aa", 1L);
+        colliding.put("BB", 2L);
+        colliding.put("AaAa", 3L);
+        colliding.put("BBBB", 4L);
+        colliding.put("AaBB", 5L);
+        FeatureFlags flags = FeatureFlags.of(colliding);
+
+        assertThat(flags.getLong("Aa", 0)).isEqualTo(1);
+        assertThat(flags.getLong("BB", 0)).isEqualTo(2);
+        assertThat(flags.getLong("AaAa", 0)).isEqualTo(3);
+        assertThat(flags.getLong("BBBB", 0)).isEqualTo(4);
+        assertThat(flags.getLong("AaBB", 0)).isEqualTo(5);
+        assertThat(flags.contains("BBAa")).isFalse();
+    }
+
+    @Test
+    void findsEveryFlagOfALargeConfiguration() {
+        Map<String, Object> many = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            many.put("flag_" + i, (long) i);
+        }
+        FeatureFlags flags = FeatureFlags.of(many);
+
+        assertThat(flags.size()).isEqualTo(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(flags.getLong("flag_" + i, -1)).isEqualTo(i);
+        }
+        assertThat(flags.contains("flag_1000")).isFalse();
+    }
+
+    @Test
+    void selectsExistingFlagsInSortedOrder() {
+        assertThat(flags.select(List.of("ratio", "missing", "banner", "ratio")))
+                .containsExactly(entry("banner", "spring"), entry("ratio", 0.25));
+        assertThat(flags.select(List.of("missing"))).isEmpty();
+    }
+
+    @Test
+    void keepsNestedValuesReadOnly() {
+        Map<?, ?> nested = (Map<?, ?>) flags.get("layout");
+
+        assertThat(nested.get("columns")).isEqualTo(List.of(1, 2));
+        assertThatThrownBy(() -> ((List<?>) nested.get("columns")).clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> flags.asMap().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void serializesAsASortedMapAndReadsItBack() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String json = objectMapper.writeValueAsString(flags);
+
+        assertThat(new ArrayList<>(objectMapper.readValue(json, Map.class).keySet())).isSorted();
+        FeatureFlags read = objectMapper.readValue(json, FeatureFlags.class);
+        assertThat(read).isEqualTo(flags);
+        assertThat(read.getLong("max_items", 0)).isEqualTo(50);
+        assertThat(read.getDouble("ratio", 0)).isEqualTo(0.25);
+    }
+
+    private static Map<String, Object> flags() {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        columns.put("columns", new ArrayList<>(List.of(1, 2)));
+        Map<String, Object> flags = new LinkedHashMap<>();
+        flags.put("max_items", 50);
+        flags.put("enable_search", true);
+        flags.put("big_number", Long.MAX_VALUE);
+        flags.put("ratio", 0.25);
+        flags.put("banner", "spring");
+        flags.put("huge", BigInteger.TEN.pow(20));
+        flags.put("nothing", null);
+        flags.put("layout", columns);
+        return flags;
+    }
+}
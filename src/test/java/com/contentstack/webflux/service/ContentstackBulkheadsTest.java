@@ -0,0 +1,148 @@
+package com.contentstack.webflux.service;
+
+import com.contentstack.webflux.config.ContentstackConfig;
+import com.contentstack.webflux.exception.ContentstackOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentstackBulkheadsTest {
+
+    private static final ContentstackEndpoint ENDPOINT = ContentstackEndpoint.ENTRIES;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ContentstackBulkheads bulkheads;
+
+    @BeforeEach
+    void setUp() {
+        ContentstackConfig config = new ContentstackConfig();
+        ContentstackConfig.Bulkhead bulkhead = config.getBulkhead();
+        bulkhead.setInitialLimit(10);
+        bulkhead.setMinLimit(2);
+        bulkhead.setMaxLimit(12);
+        bulkhead.setBackoffRatio(0.5);
+        bulkhead.setLatencyThreshold(Duration.ofMillis(200));
+        bulkheads = new ContentstackBulkheads(config, meterRegistry);
+    }
+
+    @Test
+    void growsWhileBusyCallsSucceed() {
+        List<Sinks.One<String>> calls = start(10);
+        calls.forEach(call -> call.tryEmitValue("ok"));
+
+        assertThat(limit()).isEqualTo(12);
+        assertThat(inflight()).isZero();
+    }
+
+    @Test
+    void growsOnlyWhileAtLeastHalfUsed() {
+        start(4).forEach(call -> call.tryEmitValue("ok"));
+
+        assertThat(limit()).isEqualTo(10);
+    }
+
+    @Test
+    void rejectsCallsBeyondTheLimit() {
+        start(10);
+
+        StepVerifier.create(bulkheads.limit(ENDPOINT, Mono.just("late")))
+                .expectError(ContentstackOverloadedException.class)
+                .verify();
+        assertThat(meterRegistry.get("contentstack.bulkhead.rejected").tag("endpoint", ENDPOINT.name())
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void cutsOnceForFailuresOfCallsInFlightTogether() {
+        List<Sinks.One<String>> burst = start(8);
+        burst.forEach(call -> call.tryEmitError(new IOException("Connection reset")));
+
+        assertThat(limit()).isEqualTo(5);
+
+        // A call started after the cut is a new signal
+        Sinks.One<String> next = start(1).get(0);
+        next.tryEmitError(new IOException("Connection reset"));
+
+        assertThat(limit()).isEqualTo(2);
+    }
+
+    @Test
+    void neverCutsBelowTheMinimum() {
+        for (int i = 0; i < 5; i++) {
+            start(1).get(0).tryEmitError(new IOException("Connection reset"));
+        }
+
+        assertThat(limit()).isEqualTo(2);
+    }
+
+    @Test
+    void ignoresNonTransientFailures() {
+        start(1).get(0).tryEmitError(new IllegalStateException("Bad JSON"));
+
+        assertThat(limit()).isEqualTo(10);
+        assertThat(inflight()).isZero();
+    }
+
+    @Test
+    void cutsOnSlowCalls() {
+        StepVerifier.create(bulkheads.limit(ENDPOINT, Mono.just("slow").delayElement(Duration.ofMillis(300))))
+                .expectNext("slow")
+                .verifyComplete();
+
+        assertThat(limit()).isEqualTo(5);
+    }
+
+    @Test
+    void releasesPermitOnCancelWithoutChangingTheLimit() {
+        List<Disposable> subscriptions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            subscriptions.add(bulkheads.limit(ENDPOINT, Mono.never()).subscribe());
+        }
+        assertThat(inflight()).isEqualTo(10);
+
+        subscriptions.forEach(Disposable::dispose);
+
+        assertThat(inflight()).isZero();
+        assertThat(limit()).isEqualTo(10);
+        StepVerifier.create(bulkheads.limit(ENDPOINT, Mono.just("ok"))).expectNext("ok").verifyComplete();
+    }
+
+    @Test
+    void releasesEachPermitOnce() {
+        Sinks.One<String> call = Sinks.one();
+        Disposable subscription = bulkheads.limit(ENDPOINT, call.asMono()).subscribe();
+        call.tryEmitValue("ok");
+        subscription.dispose();
+
+        assertThat(inflight()).isZero();
+    }
+
+    private List<Sinks.One<String>> start(int count) {
+        List<Sinks.One<String>> calls = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Sinks.One<String> call = Sinks.one();
+            bulkheads.limit(ENDPOINT, call.asMono()).subscribe(value -> { }, error -> { });
+            calls.add(call);
+        }
+        return calls;
+    }
+
+    private double limit() {
+        return meterRegistry.get("contentstack.bulkhead.limit").tag("endpoint", ENDPOINT.name()).gauge().value();
+    }
+
+    private double inflight() {
+        return meterRegistry.get("contentstack.bulkhead.inflight").tag("endpoint", ENDPOINT.name()).gauge().value();
+    }
+}
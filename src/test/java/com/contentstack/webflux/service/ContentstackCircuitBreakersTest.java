@@ -0,0 +1,179 @@
+package com.contentstack.webflux.service;
+
+import com.contentstack.webflux.config.ContentstackConfig;
+import com.contentstack.webflux.exception.ContentstackCircuitOpenException;
+import com.contentstack.webflux.exception.ContentstackOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentstackCircuitBreakersTest {
+
+    private static final String HOST = "cdn.contentstack.io";
+    private static final String CONTENT_TYPE = "web_config";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private ContentstackCircuitBreakers breakers;
+
+    @BeforeEach
+    void setUp() {
+        ContentstackConfig config = new ContentstackConfig();
+        ContentstackConfig.CircuitBreaker circuitBreaker = config.getCircuitBreaker();
+        circuitBreaker.setWindowSize(4);
+        circuitBreaker.setMinimumCalls(4);
+        circuitBreaker.setFailureRateThreshold(50);
+        circuitBreaker.setSlowCallRateThreshold(50);
+        circuitBreaker.setSlowCallDuration(Duration.ofMillis(50));
+        circuitBreaker.setWaitDurationInOpen(Duration.ofMillis(100));
+        circuitBreaker.setPermittedCallsInHalfOpen(2);
+        breakers = new ContentstackCircuitBreakers(config, meterRegistry);
+    }
+
+    @Test
+    void opensWhenFailureRateIsReached() {
+        succeed(CONTENT_TYPE);
+        succeed(CONTENT_TYPE);
+        fail(CONTENT_TYPE);
+        assertThat(hostState()).isEqualTo("CLOSED");
+        fail(CONTENT_TYPE);
+
+        assertThat(hostState()).isEqualTo("OPEN");
+        assertThat(contentTypeState(CONTENT_TYPE)).isEqualTo("OPEN");
+        int before = upstreamCalls.get();
+        StepVerifier.create(breakers.protect(HOST, CONTENT_TYPE, call(Mono.just("ok"))))
+                .expectError(ContentstackCircuitOpenException.class)
+                .verify();
+        assertThat(upstreamCalls).as("calls reaching the CDN while open").hasValue(before);
+    }
+
+    @Test
+    void openHostBreakerRejectsEveryContentType() {
+        for (int i = 0; i < 4; i++) {
+            fail("content_type_" + i);
+        }
+
+        assertThat(hostState()).isEqualTo("OPEN");
+        StepVerifier.create(breakers.protect(HOST, "navigation", call(Mono.just("ok"))))
+                .expectError(ContentstackCircuitOpenException.class)
+                .verify();
+    }
+
+    @Test
+    void slowCallsOpenAndTrialsCloseAgain() throws InterruptedException {
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(breakers.protect(HOST, CONTENT_TYPE,
+                            call(Mono.just("slow").delayElement(Duration.ofMillis(80)))))
+                    .expectNext("slow")
+                    .verifyComplete();
+        }
+        assertThat(hostState()).isEqualTo("OPEN");
+
+        Thread.sleep(150);
+        succeed(CONTENT_TYPE);
+        assertThat(hostState()).isEqualTo("HALF_OPEN");
+        succeed(CONTENT_TYPE);
+
+        assertThat(hostState()).isEqualTo("CLOSED");
+        assertThat(contentTypeState(CONTENT_TYPE)).isNull();
+        assertThat(transitions("CLOSED", "OPEN")).isEqualTo(2);
+        assertThat(transitions("OPEN", "HALF_OPEN")).isEqualTo(2);
+        assertThat(transitions("HALF_OPEN", "CLOSED")).isEqualTo(2);
+    }
+
+    @Test
+    void failedTrialOpensAgain() throws InterruptedException {
+        for (int i = 0; i < 4; i++) {
+            fail(CONTENT_TYPE);
+        }
+        Thread.sleep(150);
+
+        fail(CONTENT_TYPE);
+
+        assertThat(hostState()).isEqualTo("OPEN");
+        assertThat(transitions("HALF_OPEN", "OPEN")).isEqualTo(2);
+    }
+
+    @Test
+    void halfOpenAdmitsOnlyPermittedTrialsAndFreesCancelledOnes() throws InterruptedException {
+        for (int i = 0; i < 4; i++) {
+            fail(CONTENT_TYPE);
+        }
+        Thread.sleep(150);
+
+        Disposable first = breakers.protect(HOST, CONTENT_TYPE, Mono.never()).subscribe();
+        breakers.protect(HOST, CONTENT_TYPE, Mono.never()).subscribe();
+        StepVerifier.create(breakers.protect(HOST, CONTENT_TYPE, call(Mono.just("ok"))))
+                .expectError(ContentstackCircuitOpenException.class)
+                .verify();
+
+        first.dispose();
+
+        StepVerifier.create(breakers.protect(HOST, CONTENT_TYPE, call(Mono.just("ok"))))
+                .expectNext("ok")
+                .verifyComplete();
+        assertThat(hostState()).isEqualTo("HALF_OPEN");
+    }
+
+    @Test
+    void ignoresShedCallsAndClientErrors() {
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(breakers.protect(HOST, CONTENT_TYPE,
+                            Mono.error(new ContentstackOverloadedException("Too many concurrent requests"))))
+                    .expectError(ContentstackOverloadedException.class)
+                    .verify();
+            StepVerifier.create(breakers.protect(HOST, CONTENT_TYPE, Mono.error(new IllegalArgumentException("Bad JSON"))))
+                    .expectError(IllegalArgumentException.class)
+                    .verify();
+        }
+
+        assertThat(hostState()).isEqualTo("CLOSED");
+    }
+
+    private void succeed(String contentTypeUid) {
+        StepVerifier.create(breakers.protect(HOST, contentTypeUid, call(Mono.just("ok"))))
+                .expectNext("ok")
+                .verifyComplete();
+    }
+
+    private void fail(String contentTypeUid) {
+        StepVerifier.create(breakers.protect(HOST, contentTypeUid, call(Mono.error(new IOException("Connection reset")))))
+                .expectError(IOException.class)
+                .verify();
+    }
+
+    private <T> Mono<T> call(Mono<T> response) {
+        return Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            return response;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private String hostState() {
+        return ((Map<String, String>) breakers.health().getDetails().get("hosts")).get(HOST);
+    }
+
+    @SuppressWarnings("unchecked")
+    private String contentTypeState(String contentTypeUid) {
+        return ((Map<String, String>) breakers.health().getDetails().get("contentTypes")).get(contentTypeUid);
+    }
+
+    /**
+     * Transitions counted across the host and content type breakers, which move together here.
+     */
+    private double transitions(String from, String to) {
+        return meterRegistry.find("contentstack.circuit.transitions").tag("from", from).tag("to", to)
+                .counters().stream().mapToDouble(counter -> counter.count()).sum();
+    }
+}
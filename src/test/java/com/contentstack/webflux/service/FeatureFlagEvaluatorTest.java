@@ -0,0 +1,127 @@
+package com.contentstack.webflux.service;
+
+import com.contentstack.webflux.dto.FeatureFlagEvaluationRequest;
+import com.contentstack.webflux.dto.FeatureFlagEvaluationResponse;
+import com.contentstack.webflux.dto.FeatureFlags;
+import com.contentstack.webflux.dto.PersonalizeConfigResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class FeatureFlagEvaluatorTest {
+
+    private final FeatureFlagEvaluator.AudienceIndex audiences = FeatureFlagEvaluator.AudienceIndex.compile(personalizeConfig(
+            group("us_gold", "country", "US", "tier", "gold"),
+            group("north_america", "country", "US", "country", "CA"),
+            group("beta", "beta", "true"),
+            group("everyone")));
+
+    private final FeatureFlagEvaluator.FlagRules rules = FeatureFlagEvaluator.FlagRules.compile(FeatureFlags.of(flags(
+            "enable_search", true,
+            "new_checkout", true,
+            "new_checkout.audiences", List.of("us_gold", "beta"),
+            "max_items", 50,
+            "max_items.audiences", List.of("north_america"),
+            "banner", "spring",
+            "banner.audiences", "not a list")));
+
+    @Test
+    void matchesGroupsRequiringEveryKey() {
+        assertThat(audiences.match(Map.of("country", "US", "tier", "gold"))).containsExactly("us_gold", "north_america");
+        assertThat(audiences.match(Map.of("country", "US", "tier", "silver"))).containsExactly("north_america");
+        assertThat(audiences.match(Map.of("tier", "gold"))).isEmpty();
+    }
+
+    @Test
+    void treatsValuesOfTheSameKeyAsAlternatives() {
+        assertThat(audiences.match(Map.of("country", "CA"))).containsExactly("north_america");
+        assertThat(audiences.match(Map.of("country", "MX"))).isEmpty();
+    }
+
+    @Test
+    void neverMatchesGroupsWithoutAttributes() {
+        assertThat(audiences.match(Map.of("beta", "true"))).containsExactly("beta");
+        assertThat(audiences.match(Map.of())).isEmpty();
+        assertThat(audiences.match(null)).isEmpty();
+    }
+
+    @Test
+    void resolvesTargetedFlagsForUsersInTheirAudiences() {
+        FeatureFlagEvaluationResponse response = evaluate(Map.of("country", "US", "tier", "gold"));
+
+        assertThat(response.getAudiences()).containsExactly("us_gold", "north_america");
+        assertThat(response.getFlags()).containsOnly(
+                entry("enable_search", true),
+                entry("new_checkout", true),
+                entry("max_items", 50L),
+                entry("banner", "spring"),
+                entry("banner.audiences", "not a list"));
+    }
+
+    @Test
+    void resolvesUntargetedBooleansToFalseAndLeavesOtherFlagsOut() {
+        FeatureFlagEvaluationResponse response = evaluate(Map.of("country", "MX"));
+
+        assertThat(response.getAudiences()).isEmpty();
+        assertThat(response.getFlags())
+                .containsEntry("enable_search", true)
+                .containsEntry("new_checkout", false)
+                .doesNotContainKeys("max_items", "new_checkout.audiences", "max_items.audiences");
+    }
+
+    @Test
+    void resolvesOnlyTheKeysAskedFor() {
+        FeatureFlagEvaluationRequest request = request(Map.of("beta", "true"));
+        request.setKeys(List.of("new_checkout", "max_items", "missing", "new_checkout.audiences"));
+
+        FeatureFlagEvaluationResponse response = FeatureFlagEvaluator.evaluate(rules, audiences, request);
+
+        assertThat(response.getFlags()).containsExactly(entry("new_checkout", true));
+    }
+
+    private FeatureFlagEvaluationResponse evaluate(Map<String, String> attributes) {
+        return FeatureFlagEvaluator.evaluate(rules, audiences, request(attributes));
+    }
+
+    private static FeatureFlagEvaluationRequest request(Map<String, String> attributes) {
+        FeatureFlagEvaluationRequest request = new FeatureFlagEvaluationRequest();
+        request.setAttributes(attributes);
+        return request;
+    }
+
+    private static Map<String, Object> flags(Object... namesAndValues) {
+        Map<String, Object> flags = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            flags.put((String) namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return flags;
+    }
+
+    private static PersonalizeConfigResponse.Group group(String name, String... keysAndValues) {
+        List<PersonalizeConfigResponse.Attributes> attributes = new ArrayList<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            PersonalizeConfigResponse.Attributes attribute = new PersonalizeConfigResponse.Attributes();
+            attribute.setKey(keysAndValues[i]);
+            attribute.setValue(keysAndValues[i + 1]);
+            attributes.add(attribute);
+        }
+        PersonalizeConfigResponse.Group group = new PersonalizeConfigResponse.Group();
+        group.setName(name);
+        group.setAttributes(attributes);
+        return group;
+    }
+
+    private static PersonalizeConfigResponse.Entry personalizeConfig(PersonalizeConfigResponse.Group... groups) {
+        PersonalizeConfigResponse.Audiences audiences = new PersonalizeConfigResponse.Audiences();
+        audiences.setGroup(List.of(groups));
+        PersonalizeConfigResponse.Entry entry = new PersonalizeConfigResponse.Entry();
+        entry.setAudiences(audiences);
+        return entry;
+    }
+}
@@ -0,0 +1,138 @@
+package com.contentstack.webflux.service;
+
+import com.contentstack.webflux.config.ContentstackConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FirstEntryDecoderTest {
+
+    private static final String BODY = """
+            {"count": 2, "meta": {"entries": [{"uid": "decoy"}], "note": "entries: [{\\"uid\\": \\"x\\"}]"},
+             "entries": [
+               {"uid": "first", "title": "Quote \\" brace { bracket [ and \\\\", "tags": ["a", "b"],
+                "nested": {"entries": [{"uid": "inner"}]}},
+               {"uid": "second"}
+             ]}
+            """;
+
+    private final FirstEntryDecoder decoder = new FirstEntryDecoder(new ObjectMapper(), new ContentstackConfig());
+    private final NettyDataBufferFactory nettyFactory = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+    private final List<ByteBuf> allocated = new ArrayList<>();
+
+    @AfterEach
+    void releasesEveryBuffer() {
+        for (ByteBuf buf : allocated) {
+            assertThat(buf.refCnt()).as("reference count of a response buffer").isZero();
+        }
+    }
+
+    @Test
+    void decodesFirstEntryWhateverTheChunkBoundaries() {
+        byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+        for (int split = 1; split < bytes.length; split++) {
+            StepVerifier.create(decoder.decode(netty(bytes, split), Map.class))
+                    .assertNext(entry -> {
+                        assertThat(entry.get("uid")).isEqualTo("first");
+                        assertThat(entry.get("title")).isEqualTo("Quote \" brace { bracket [ and \\");
+                    })
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void decodesFromHeapBuffers() {
+        DefaultDataBufferFactory factory = DefaultDataBufferFactory.sharedInstance;
+        byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+        Flux<DataBuffer> body = Flux.just(
+                factory.wrap(slice(bytes, 0, 40)), factory.wrap(slice(bytes, 40, bytes.length)));
+
+        StepVerifier.create(decoder.decode(body, Map.class))
+                .assertNext(entry -> assertThat(entry.get("uid")).isEqualTo("first"))
+                .verifyComplete();
+    }
+
+    @Test
+    void isEmptyWithoutEntries() {
+        StepVerifier.create(decoder.decode(netty("{\"entries\": []}"), Map.class)).verifyComplete();
+        StepVerifier.create(decoder.decode(netty("{\"count\": 0}"), Map.class)).verifyComplete();
+        StepVerifier.create(decoder.decode(netty("{\"entries\": null}"), Map.class)).verifyComplete();
+    }
+
+    @Test
+    void failsOnTruncatedBody() {
+        String truncated = BODY.substring(0, BODY.indexOf("\"tags\""));
+        StepVerifier.create(decoder.decode(netty(truncated), Map.class)).verifyError();
+    }
+
+    @Test
+    void reportsPayloadSizeOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger size = new AtomicInteger();
+        FirstEntryDecoder.Listener listener = (payloadBytes, decodeNanos) -> {
+            calls.incrementAndGet();
+            size.set(payloadBytes);
+        };
+
+        StepVerifier.create(decoder.decode(netty(BODY), Map.class, listener)).expectNextCount(1).verifyComplete();
+
+        assertThat(calls).hasValue(1);
+        assertThat(size).hasValue(BODY.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void decodesCompositeBuffer() {
+        byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+        CompositeByteBuf composite = UnpooledByteBufAllocator.DEFAULT.compositeBuffer();
+        for (int start = 0; start < bytes.length; start += 7) {
+            composite.addComponent(true, track(UnpooledByteBufAllocator.DEFAULT.buffer()
+                    .writeBytes(bytes, start, Math.min(7, bytes.length - start))));
+        }
+        allocated.add(composite);
+
+        StepVerifier.create(decoder.decode(Flux.just(nettyFactory.wrap(composite)), Map.class))
+                .assertNext(entry -> assertThat(entry.get("uid")).isEqualTo("first"))
+                .verifyComplete();
+    }
+
+    private Flux<DataBuffer> netty(String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        return netty(bytes, bytes.length);
+    }
+
+    /**
+     * The body as two Netty buffers split at {@code split}, allocated on subscription.
+     */
+    private Flux<DataBuffer> netty(byte[] bytes, int split) {
+        return Flux.just(slice(bytes, 0, split), slice(bytes, split, bytes.length))
+                .filter(part -> part.length > 0)
+                .map(part -> nettyFactory.wrap(track(UnpooledByteBufAllocator.DEFAULT.buffer().writeBytes(part))));
+    }
+
+    private ByteBuf track(ByteBuf buf) {
+        allocated.add(buf);
+        return buf;
+    }
+
+    private static byte[] slice(byte[] bytes, int start, int end) {
+        byte[] part = new byte[end - start];
+        System.arraycopy(bytes, start, part, 0, part.length);
+        return part;
+    }
+}
@@ -0,0 +1,203 @@
+package com.contentstack.webflux.service;
+
+import com.contentstack.webflux.config.ContentstackConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FirstEntryScannerTest {
+
+    private static final String ENTRY = "{\"uid\": \"first\", \"title\": \"Quote \\\" brace } bracket ] and \\\\\","
+            + " \"tags\": [\"a\", {\"b\": []}], \"nested\": {\"entries\": [{\"uid\": \"inner\"}]}}";
+    private static final String BODY = "{\"count\": 2, \"meta\": {\"entries\": [{\"uid\": \"decoy\"}]},"
+            + " \"note\": \"\\\"entries\\\": [{}]\", \"entries\" : [ " + ENTRY + ", {\"uid\": \"second\"}]}";
+
+    private final FirstEntryDecoder decoder = new FirstEntryDecoder(new ObjectMapper(), new ContentstackConfig());
+    private final NettyDataBufferFactory nettyFactory = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+    private final List<ByteBuf> allocated = new ArrayList<>();
+
+    @AfterEach
+    void releasesEveryBuffer() {
+        for (ByteBuf buf : allocated) {
+            assertThat(buf.refCnt()).as("reference count of a response buffer").isZero();
+        }
+    }
+
+    @Test
+    void findsFirstEntryWhateverTheChunkBoundaries() {
+        byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+        for (int first = 1; first < bytes.length; first++) {
+            for (int second = first; second < bytes.length; second += 5) {
+                assertThat(scan(bytes, first, second)).as("split at %d and %d", first, second).isEqualTo(ENTRY);
+            }
+        }
+    }
+
+    @Test
+    void findsFirstEntryOneByteAtATime() {
+        byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+        FirstEntryScanner scanner = new FirstEntryScanner();
+        StringBuilder entry = new StringBuilder();
+        for (int i = 0; i < bytes.length && !scanner.isDone(); i++) {
+            int[] range = scanner.scan(ByteBuffer.wrap(bytes, i, 1));
+            if (range != null) {
+                entry.append(new String(bytes, range[0], range[1] - range[0], StandardCharsets.UTF_8));
+            }
+        }
+        assertThat(scanner.isFound()).isTrue();
+        assertThat(entry.toString()).isEqualTo(ENTRY);
+    }
+
+    @Test
+    void reportsMissingAndTruncatedEntries() {
+        FirstEntryScanner empty = new FirstEntryScanner();
+        assertThat(empty.scan(buffer("{\"entries\": [], \"count\": 0}"))).isNull();
+        assertThat(empty.isDone()).isTrue();
+        assertThat(empty.isFound()).isFalse();
+
+        FirstEntryScanner missing = new FirstEntryScanner();
+        assertThat(missing.scan(buffer("{\"count\": 0, \"meta\": {\"entries\": [{}]}}"))).isNull();
+        assertThat(missing.isFound()).isFalse();
+        assertThat(missing.isTruncated()).isFalse();
+
+        FirstEntryScanner truncated = new FirstEntryScanner();
+        String cut = BODY.substring(0, BODY.indexOf("bracket"));
+        assertThat(truncated.scan(buffer(cut))).isNotNull();
+        assertThat(truncated.isTruncated()).isTrue();
+        assertThat(truncated.isDone()).isFalse();
+    }
+
+    @Test
+    void extractsSlicesOfNettyBuffers() {
+        byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+        for (int split = 1; split < bytes.length; split++) {
+            StepVerifier.create(join(decoder.extract(netty(bytes, split, split + 11))))
+                    .expectNext(ENTRY)
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void extractsFromCompositeBuffer() {
+        byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+        CompositeByteBuf composite = UnpooledByteBufAllocator.DEFAULT.compositeBuffer();
+        for (int start = 0; start < bytes.length; start += 13) {
+            composite.addComponent(true, track(UnpooledByteBufAllocator.DEFAULT.buffer()
+                    .writeBytes(bytes, start, Math.min(13, bytes.length - start))));
+        }
+        allocated.add(composite);
+
+        StepVerifier.create(join(decoder.extract(Flux.just(nettyFactory.wrap(composite)))))
+                .expectNext(ENTRY)
+                .verifyComplete();
+    }
+
+    @Test
+    void stopsReadingAfterFirstEntry() {
+        byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+        int entryEnd = BODY.indexOf(ENTRY) + ENTRY.length();
+        AtomicInteger requested = new AtomicInteger();
+
+        Flux<DataBuffer> body = netty(bytes, entryEnd, entryEnd + 1)
+                .doOnNext(buffer -> requested.incrementAndGet());
+
+        StepVerifier.create(join(decoder.extract(body))).expectNext(ENTRY).verifyComplete();
+        assertThat(requested).as("buffers read").hasValue(1);
+    }
+
+    @Test
+    void failsOnEmptyEntries() {
+        StepVerifier.create(decoder.extract(netty("{\"entries\": []}")))
+                .expectErrorMessage("No entries found in response")
+                .verify();
+    }
+
+    @Test
+    void failsOnTruncatedBodyAndReleasesSlices() {
+        byte[] bytes = BODY.substring(0, BODY.indexOf("\"tags\"")).getBytes(StandardCharsets.UTF_8);
+        StepVerifier.create(join(decoder.extract(netty(bytes, bytes.length / 2, bytes.length - 3))))
+                .expectErrorMessage("Response ended inside the first entry")
+                .verify();
+    }
+
+    private static String scan(byte[] bytes, int first, int second) {
+        FirstEntryScanner scanner = new FirstEntryScanner();
+        StringBuilder entry = new StringBuilder();
+        int[][] chunks = {{0, first}, {first, second}, {second, bytes.length}};
+        for (int[] chunk : chunks) {
+            if (scanner.isDone()) {
+                break;
+            }
+            int[] range = scanner.scan(ByteBuffer.wrap(bytes, chunk[0], chunk[1] - chunk[0]));
+            if (range != null) {
+                entry.append(new String(bytes, range[0], range[1] - range[0], StandardCharsets.UTF_8));
+            }
+        }
+        return scanner.isFound() ? entry.toString() : null;
+    }
+
+    private static ByteBuffer buffer(String json) {
+        return ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Concatenates and releases the extracted slices; on error the slices already received are
+     * released before the error is passed on.
+     */
+    private static Mono<String> join(Flux<DataBuffer> slices) {
+        List<DataBuffer> received = new ArrayList<>();
+        return slices
+                .doOnNext(received::add)
+                .then(Mono.fromCallable(() -> {
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    for (DataBuffer slice : received) {
+                        byte[] bytes = new byte[slice.readableByteCount()];
+                        slice.read(bytes);
+                        out.write(bytes);
+                    }
+                    return out.toString(StandardCharsets.UTF_8);
+                }))
+                .doFinally(signal -> received.forEach(DataBufferUtils::release));
+    }
+
+    private Flux<DataBuffer> netty(String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        return netty(bytes, bytes.length, bytes.length);
+    }
+
+    /**
+     * The body as up to three Netty buffers split at {@code first} and {@code second}, each
+     * allocated only when requested, as a response arriving from the network would be.
+     */
+    private Flux<DataBuffer> netty(byte[] bytes, int first, int second) {
+        int[][] chunks = {{0, first}, {first, second}, {second, bytes.length}};
+        return Flux.fromArray(chunks)
+                .map(chunk -> new int[]{Math.min(chunk[0], bytes.length), Math.min(chunk[1], bytes.length)})
+                .filter(chunk -> chunk[1] > chunk[0])
+                .map(chunk -> nettyFactory.wrap(track(UnpooledByteBufAllocator.DEFAULT.buffer()
+                        .writeBytes(bytes, chunk[0], chunk[1] - chunk[0]))));
+    }
+
+    private ByteBuf track(ByteBuf buf) {
+        allocated.add(buf);
+        return buf;
+    }
+}
@@ -0,0 +1,95 @@
+package com.contentstack.webflux.service;
+
+import com.contentstack.webflux.dto.NavigationResponse;
+import com.contentstack.webflux.dto.PageBundleRequest;
+import com.contentstack.webflux.dto.PageBundleResponse;
+import com.contentstack.webflux.dto.WebConfigResponse;
+import com.contentstack.webflux.exception.ContentstackOverloadedException;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PageBundleServiceTest {
+
+    private static final URI REQUEST_URI = URI.create("https://cdn.contentstack.io/v3/content_types/x/entries");
+
+    private final ContentstackClientService clientService = mock(ContentstackClientService.class);
+    private final PageBundleService pageBundleService = new PageBundleService(clientService);
+
+    @Test
+    void reportsEachFailedSectionAsACode() {
+        NavigationResponse.Entry navigation = new NavigationResponse.Entry();
+        when(clientService.fetchNavigationConfig(any(), any(), any())).thenReturn(Mono.just(navigation));
+        when(clientService.fetchWebConfig(any(), any(), any())).thenReturn(Mono.error(readTimeout()));
+        when(clientService.fetchFeatureFlagConfig(any(), any(), any())).thenReturn(Mono.error(
+                WebClientResponseException.create(404, "Not Found", HttpHeaders.EMPTY, new byte[0], null)));
+        when(clientService.fetchPersonalizedConfig(any(), any(), any())).thenReturn(Mono.error(
+                new ContentstackOverloadedException("Too many concurrent requests")));
+        when(clientService.fetchEntries(any(), any(), any())).thenReturn(Mono.error(new IllegalStateException("Bad JSON")));
+
+        StepVerifier.create(pageBundleService.fetchPageBundle(request()))
+                .assertNext(bundle -> {
+                    assertThat(bundle.getNavigation()).isSameAs(navigation);
+                    assertThat(bundle.getErrors()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                            PageBundleService.WEB_CONFIG, PageBundleResponse.TIMEOUT,
+                            PageBundleService.FEATURE_FLAGS, PageBundleResponse.NOT_FOUND,
+                            PageBundleService.PERSONALIZED_CONFIG, PageBundleResponse.UNAVAILABLE,
+                            PageBundleService.PAGE, PageBundleResponse.INTERNAL_ERROR));
+                    assertThat(bundle.isUnavailable()).isFalse();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void reportsTimeoutsOfEveryKind() {
+        when(clientService.fetchNavigationConfig(any(), any(), any())).thenReturn(Mono.error(readTimeout()));
+        when(clientService.fetchWebConfig(any(), any(), any())).thenReturn(
+                Mono.<WebConfigResponse.Entry>never().timeout(Duration.ofMillis(10)));
+        when(clientService.fetchFeatureFlagConfig(any(), any(), any())).thenReturn(Mono.error(
+                new WebClientRequestException(new IllegalStateException(ReadTimeoutException.INSTANCE),
+                        HttpMethod.GET, REQUEST_URI, HttpHeaders.EMPTY)));
+        when(clientService.fetchPersonalizedConfig(any(), any(), any())).thenReturn(Mono.empty());
+        when(clientService.fetchEntries(any(), any(), any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(pageBundleService.fetchPageBundle(request()))
+                .assertNext(bundle -> {
+                    assertThat(bundle.getErrors()).containsOnlyKeys(
+                            PageBundleService.NAVIGATION, PageBundleService.WEB_CONFIG, PageBundleService.FEATURE_FLAGS);
+                    assertThat(bundle.getErrors().values()).containsOnly(PageBundleResponse.TIMEOUT);
+                    assertThat(bundle.isUnavailable()).isTrue();
+                })
+                .verifyComplete();
+    }
+
+    /**
+     * A Reactor Netty read timeout as WebClient reports it.
+     */
+    private static WebClientRequestException readTimeout() {
+        return new WebClientRequestException(ReadTimeoutException.INSTANCE, HttpMethod.GET, REQUEST_URI, HttpHeaders.EMPTY);
+    }
+
+    private static PageBundleRequest request() {
+        PageBundleRequest request = new PageBundleRequest();
+        request.setLocale("en-us");
+        request.setPageContentTypeUid("home_page");
+        request.setNavigationContentTypeUid("navigation_config");
+        request.setWebConfigContentTypeUid("web_config");
+        request.setFeatureFlagContentTypeUid("feature_flag");
+        request.setPersonalizedContentTypeUid("personalize_config");
+        return request;
+    }
+}